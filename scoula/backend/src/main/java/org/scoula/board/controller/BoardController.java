@@ -6,11 +6,15 @@ import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import lombok.extern.slf4j.Slf4j;
 import org.scoula.board.domain.BoardAttachmentVO;
+import org.scoula.board.dto.BoardBatchItemDTO;
 import org.scoula.board.dto.BoardDTO;
+import org.scoula.board.dto.PopularBoardDTO;
+import org.scoula.board.dto.BoardSummaryDTO;
 import org.scoula.board.service.BoardService;
 import org.scoula.common.pagination.Page;
 import org.scoula.common.pagination.PageRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -18,9 +22,15 @@ import org.springframework.web.bind.annotation.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Date;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.scoula.common.util.ETags;
 import org.scoula.common.util.UploadFiles;
 
 @Slf4j                           // 로깅을 위한 Lombok 어노테이션
@@ -35,55 +45,170 @@ public class BoardController {
   /**
    * 페이징된 게시글 목록 조회
    * GET: http://localhost:8080/api/board?page=1&amount=10
+   * GET: http://localhost:8080/api/board?after=&amount=10 (커서 페이징, 다음 요청엔 응답의 nextCursor 전달)
    * @param pageRequest 쿼리스트링이 자동 바인딩된 커맨드 객체
    * @return ResponseEntity
    *         - 200 OK: 목록 조회 성공, 페이징 처리된 게시글 리스트 반환 (빈 리스트 포함)
    *         - 204 No Content: 조회 성공했지만 게시글이 하나도 없음
    *         - 500 Internal Server Error: 서버 내부 오류 (DB 연결 실패 등)
    */
-  @ApiOperation(value = "게시글 목록 조회(Pagination)", notes = "페이징 처리된 게시글 목록을 얻는 API")
+  @ApiOperation(value = "게시글 목록 조회(Pagination)", notes = "페이징 처리된 게시글 요약 목록(본문 제외)을 얻는 API")
   @ApiResponses(value = {
-          @ApiResponse(code = 200, message = "성공적으로 요청이 처리되었습니다.", response = BoardDTO.class),
+          @ApiResponse(code = 200, message = "성공적으로 요청이 처리되었습니다.", response = BoardSummaryDTO.class),
           @ApiResponse(code = 400, message = "잘못된 요청입니다."),
           @ApiResponse(code = 500, message = "서버에서 오류가 발생했습니다.")
   })
   @GetMapping("")
   public ResponseEntity<Page> getList(
           @ApiParam(value = "페이지네이션 요청 객체", required = true) PageRequest pageRequest) {
-    Page<BoardDTO> result = service.getPage(pageRequest);
+    Page<BoardSummaryDTO> result = service.getPage(pageRequest);
     return ResponseEntity.ok(result);
   }
 
 
 
+  /**
+   * 게시글 검색 (제목/본문)
+   * GET: http://localhost:8080/api/board/search?q=검색어&page=1&amount=10
+   * @param q 검색어 (한글은 2글자 단위, 영문은 단어 단위로 매칭)
+   * @param pageRequest 페이지 요청
+   * @return 관련도 순으로 정렬된 게시글 요약 페이지
+   */
+  @ApiOperation(value = "게시글 검색", notes = "제목/본문을 검색하여 관련도 순으로 페이징된 목록을 얻는 API")
+  @GetMapping("/search")
+  public ResponseEntity<Page> search(
+          @ApiParam(value = "검색어", required = true) @RequestParam("q") String q,
+          PageRequest pageRequest) {
+    Page<BoardSummaryDTO> result = service.search(q, pageRequest);
+    return ResponseEntity.ok(result);
+  }
+
+  /**
+   * 전체 게시글 내보내기 (NDJSON)
+   * GET: http://localhost:8080/api/board/export
+   * - 한 줄에 게시글 하나씩 JSON으로 출력하며, DB에서 읽는 대로 바로 응답에 기록
+   * - 요청의 Accept-Encoding에 gzip이 있으면 gzip으로 압축하여 전송
+   */
+  @ApiOperation(value = "게시글 내보내기", notes = "전체 게시글을 NDJSON으로 스트리밍하는 API")
+  @GetMapping("/export")
+  public void export(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    response.setContentType("application/x-ndjson");
+    response.setCharacterEncoding("UTF-8");
+    response.setHeader("Content-disposition", "attachment;filename=\"boards.ndjson\"");
+
+    String acceptEncoding = request.getHeader("Accept-Encoding");
+    boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+    if (gzip) {
+      response.setHeader("Content-Encoding", "gzip");
+    }
+    response.setHeader("Vary", "Accept-Encoding");
+
+    try (OutputStream out = gzip
+            ? new GZIPOutputStream(response.getOutputStream(), 64 * 1024)
+            : response.getOutputStream()) {
+      long count = service.export(out);
+      log.info("============> 게시글 내보내기: " + count + "건");
+    }
+  }
+
+  /**
+   * 인기 게시글 목록
+   * GET: http://localhost:8080/api/board/popular?window=24h
+   * @param window 집계 기간 (1h, 24h, 7d 등 설정된 기간)
+   * @return 기간 내 조회수 내림차순 게시글 목록 (1분 주기로 갱신)
+   */
+  @ApiOperation(value = "인기 게시글 목록", notes = "최근 기간 동안 조회수가 많은 게시글 목록을 얻는 API")
+  @GetMapping("/popular")
+  public ResponseEntity<List<PopularBoardDTO>> getPopular(
+          @ApiParam(value = "집계 기간") @RequestParam(value = "window", defaultValue = "24h") String window) {
+    return ResponseEntity.ok(service.getPopular(window));
+  }
+
+  /**
+   * 여러 게시글 한 번에 조회
+   * GET: http://localhost:8080/api/board/batch?ids=1,2,3
+   * - 게시글마다 상세 조회를 반복하지 않고 한 번의 요청/쿼리로 조회 (조회수는 세지 않음)
+   * @param ids 게시글 번호 목록 (쉼표 구분)
+   * @return 요청 순서대로의 결과 (없는 게시글은 found=false)
+   */
+  @ApiOperation(value = "여러 게시글 조회", notes = "번호 목록에 해당하는 게시글 상세를 한 번에 얻는 API")
+  @GetMapping("/batch")
+  public ResponseEntity<List<BoardBatchItemDTO>> getBatch(
+          @ApiParam(value = "게시글 번호 목록", required = true) @RequestParam("ids") List<Long> ids) {
+    return ResponseEntity.ok(service.getBatch(ids));
+  }
+
   @GetMapping("/{no}")
   public ResponseEntity<BoardDTO> get(@PathVariable Long no) {
     log.info("============> 게시글 상세 조회: " + no);
 
-    BoardDTO board = service.get(no);
-    return ResponseEntity.ok(board);
+    BoardDTO board = service.get(no);   // 없는 게시글이면 여기서 404
+    service.countView(no);              // 304 응답이어도 조회로 셈
+
+    // 조회수는 ETag에 포함하지 않음 (조회할 때마다 바뀌면 조건부 요청이 의미 없음)
+    // ETag가 If-None-Match와 같으면 본문 직렬화 없이 304 Not Modified 응답 (Spring이 처리)
+    return ResponseEntity.ok()
+            .eTag(etagOf(board))
+            .body(board);
+  }
+
+  // 게시글 ETag - 수정일시와 첨부파일 구성이 같으면 같은 값
+  private static String etagOf(BoardDTO board) {
+    Date version = board.getUpdateDate() != null ? board.getUpdateDate() : board.getRegDate();
+    List<Long> attachments = board.getAttaches() == null ? List.of()
+            : board.getAttaches().stream().map(BoardAttachmentVO::getNo).sorted().toList();
+    return ETags.of(board.getNo(), version == null ? null : version.getTime(), attachments);
   }
 
+  /**
+   * 게시글 생성
+   * POST: http://localhost:8080/api/board?refresh=false
+   * - 응답은 저장한 값으로 구성 (다시 조회하지 않음)
+   * @param refresh true면 저장 후 DB에서 다시 조회한 게시글 반환
+   */
   @PostMapping("")
-  public ResponseEntity<BoardDTO> create(BoardDTO board) {
+  public ResponseEntity<BoardDTO> create(
+          BoardDTO board,
+          @RequestParam(value = "refresh", defaultValue = "false") boolean refresh
+  ) {
     log.info("============> 게시글 생성: " + board);
 
     // 새 게시글 생성 후 결과 반환
     BoardDTO createdBoard = service.create(board);
-    return ResponseEntity.ok(createdBoard);
+    return ResponseEntity.ok(refresh ? service.get(createdBoard.getNo()) : createdBoard);
+  }
+
+  /**
+   * 게시글 생성 (스트리밍 업로드)
+   * POST: http://localhost:8080/api/board/stream (multipart/form-data: title, content, writer, files)
+   * - 요청 본문을 고정 크기 버퍼로 읽으면서 첨부파일을 최종 위치에 바로 기록
+   * - 업로드 크기/동시 요청 수와 관계없이 힙 사용량이 일정하게 유지됨
+   * - ?refresh=true면 저장 후 DB에서 다시 조회한 게시글 반환
+   *   (@RequestParam으로 받으면 파라미터를 찾느라 컨테이너가 본문을 먼저 파싱하므로 쿼리스트링에서 직접 읽음)
+   * @param request multipart/form-data 요청
+   * @return 생성된 게시글
+   */
+  @PostMapping(value = "/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  public ResponseEntity<BoardDTO> createStreaming(HttpServletRequest request) throws IOException {
+    log.info("============> 게시글 생성(스트리밍)");
+    boolean refresh = Boolean.parseBoolean(UploadFiles.getQueryParameter(request, "refresh"));
+
+    BoardDTO createdBoard = service.createStreaming(UploadFiles.openMultipart(request));
+    return ResponseEntity.ok(refresh ? service.get(createdBoard.getNo()) : createdBoard);
   }
 
   @PutMapping("/{no}")
   public ResponseEntity<BoardDTO> update(
           @PathVariable Long no,           // URL에서 게시글 번호 추출
-          BoardDTO board      // 수정할 데이터 (JSON)
+          BoardDTO board,      // 수정할 데이터 (JSON)
+          @RequestParam(value = "refresh", defaultValue = "false") boolean refresh   // true면 DB에서 다시 조회
   ) {
     log.info("============> 게시글 수정: " + no + ", " + board);
 
     // 게시글 번호 설정 (안전성을 위해)
     board.setNo(no);
     BoardDTO updatedBoard = service.update(board);
-    return ResponseEntity.ok(updatedBoard);
+    return ResponseEntity.ok(refresh ? service.get(no) : updatedBoard);
   }
 
   @DeleteMapping("/{no}")
@@ -96,10 +221,24 @@ public class BoardController {
   }
 
   @GetMapping("/download/{no}")
-  public void download(@PathVariable Long no, HttpServletResponse response) throws Exception {
+  public void download(@PathVariable Long no, HttpServletRequest request,
+                       HttpServletResponse response) throws Exception {
     BoardAttachmentVO attachment = service.getAttachment(no);
     File file = new File(attachment.getPath());
-    UploadFiles.download(response, file, attachment.getFilename());
+    UploadFiles.download(request, response, file, attachment.getFilename());
+  }
+
+  /**
+   * 이미지 첨부파일 썸네일
+   * GET: http://localhost:8080/api/board/thumbnail/{no}?size=160
+   * - 요청 크기 이상인 가장 작은 썸네일을 제공 (size 생략 시 가장 작은 썸네일)
+   * - 아직 생성되지 않았으면 원본 이미지로 대체
+   */
+  @GetMapping("/thumbnail/{no}")
+  public void thumbnail(@PathVariable Long no, @RequestParam(required = false) Integer size,
+                        HttpServletRequest request, HttpServletResponse response) {
+    File file = new File(service.getThumbnailPath(no, size));
+    UploadFiles.downloadImage(request, response, file);
   }
 
   @DeleteMapping("/deleteAttachment/{no}")
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.scoula.common.util.UploadFiles;
+import org.scoula.common.util.UploadedFile;
 import org.springframework.web.multipart.MultipartFile;
 import java.util.Date;
 
@@ -19,6 +20,7 @@ public class BoardAttachmentVO {
   private String path;            // 서버 저장 경로
   private String contentType;     // MIME 타입
   private Long size;              // 파일 크기
+  private String blobHash;        // 내용 주소 저장 시 SHA-256 (기존 방식이면 null)
   private Date regDate;           // 등록일
 
   /**
@@ -38,6 +40,22 @@ public class BoardAttachmentVO {
             .build();
   }
 
+  /**
+   * 스트리밍 방식으로 저장된 파일로부터 BoardAttachmentVO 객체를 생성하는 팩토리 메서드
+   * @param file 저장된 파일 정보
+   * @param bno 게시글 번호
+   * @return BoardAttachmentVO 객체
+   */
+  public static BoardAttachmentVO of(UploadedFile file, Long bno) {
+    return builder()
+            .bno(bno)
+            .filename(file.getFilename())
+            .path(file.getPath())
+            .contentType(file.getContentType())
+            .size(file.getSize())
+            .build();
+  }
+
   /**
    * 파일 크기를 사용자 친화적 형태로 변환
    * @return 포맷된 파일 크기 (예: 1.2 MB)
@@ -19,6 +19,7 @@ public class BoardVO {
     private String writer;     // 작성자
     private Date regDate;      // 등록일시
     private Date updateDate;   // 수정일시
+    private long viewCount;    // 조회수 (DB에 기록된 값)
 
     // 첨부파일 목록 추가
     private List<BoardAttachmentVO> attaches;
@@ -0,0 +1,28 @@
+package org.scoula.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 게시글 조회 결과 항목
+ * - 요청한 번호 순서대로 하나씩, 없는 게시글은 found=false, board=null
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BoardBatchItemDTO {
+    private Long no;              // 요청한 게시글 번호
+    private boolean found;        // 게시글 존재 여부
+    private BoardDTO board;       // 게시글 (없으면 null)
+
+    public static BoardBatchItemDTO of(Long no, BoardDTO board) {
+        return BoardBatchItemDTO.builder()
+                .no(no)
+                .found(board != null)
+                .board(board)
+                .build();
+    }
+}
@@ -15,7 +15,7 @@ import java.util.List;
 @Data                    // getter, setter, toString, equals, hashCode 생성
 @NoArgsConstructor       // 기본 생성자
 @AllArgsConstructor      // 모든 필드 생성자
-@Builder                 // 빌더 패턴
+@Builder(toBuilder = true)  // 빌더 패턴 (toBuilder: 복사본 생성)
 public class BoardDTO {
     private Long no;           // 게시글 번호
     private String title;      // 제목
@@ -23,6 +23,7 @@ public class BoardDTO {
     private String writer;     // 작성자
     private Date regDate;      // 등록일시
     private Date updateDate;   // 수정일시
+    private long viewCount;    // 조회수
 
 
     // 첨부파일 정보
@@ -46,6 +47,7 @@ public class BoardDTO {
                 .writer(vo.getWriter())
                 .regDate(vo.getRegDate())
                 .updateDate(vo.getUpdateDate())
+                .viewCount(vo.getViewCount())
                 .attaches(vo.getAttaches())
                 .regDate(vo.getRegDate())
                 .build();
@@ -0,0 +1,27 @@
+package org.scoula.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * 게시글 목록용 요약 DTO
+ * - 본문(content)과 첨부파일 목록을 제외해 목록 응답 크기와 DB 읽기 비용을 줄임
+ * - 본문은 상세 조회(GET /api/board/{no})에서만 제공
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BoardSummaryDTO {
+    private Long no;              // 게시글 번호
+    private String title;         // 제목
+    private String writer;        // 작성자
+    private Date regDate;         // 등록일시
+    private Date updateDate;      // 수정일시
+    private int attachmentCount;  // 첨부파일 개수
+    private long attachmentSize;  // 첨부파일 전체 크기 (byte)
+}
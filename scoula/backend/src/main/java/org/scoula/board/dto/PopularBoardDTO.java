@@ -0,0 +1,34 @@
+package org.scoula.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * 인기 게시글 DTO
+ * - 게시글 요약 + 집계 기간 내 조회수
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PopularBoardDTO {
+    private Long no;              // 게시글 번호
+    private String title;         // 제목
+    private String writer;        // 작성자
+    private Date regDate;         // 등록일시
+    private long views;           // 집계 기간 내 조회수
+
+    public static PopularBoardDTO of(BoardSummaryDTO summary, long views) {
+        return PopularBoardDTO.builder()
+                .no(summary.getNo())
+                .title(summary.getTitle())
+                .writer(summary.getWriter())
+                .regDate(summary.getRegDate())
+                .views(views)
+                .build();
+    }
+}
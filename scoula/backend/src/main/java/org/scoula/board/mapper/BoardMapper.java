@@ -1,9 +1,13 @@
 package org.scoula.board.mapper;
 
 import java.util.List;
+import java.util.Map;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.annotations.Select;
 import org.scoula.board.domain.BoardAttachmentVO;
 import org.scoula.board.domain.BoardVO;
+import org.scoula.board.dto.BoardSummaryDTO;
 import org.scoula.common.pagination.PageRequest;
 
 public interface BoardMapper {
@@ -11,9 +15,15 @@ public interface BoardMapper {
   //@Select("select * from tbl_board order by no desc")
   public List<BoardVO> getList();
 
+  // 게시글 전체 커서 조회 (한 행씩 흘려 읽음, 트랜잭션 안에서만 사용)
+  public Cursor<BoardVO> getCursor();
+
   // 단일 게시글 조회
   public BoardVO get(Long no);
 
+  // 여러 게시글 + 첨부파일 조회 (IN 조건 한 번, 순서 보장 안 됨)
+  public List<BoardVO> getDetailList(List<Long> nos);
+
   // 게시글 등록
   public void create(BoardVO board);
 
@@ -28,20 +38,71 @@ public interface BoardMapper {
   // 첨부파일 등록
   public void createAttachment(BoardAttachmentVO attach);
 
+  // 첨부파일 여러 개를 한 번에 등록 (다중 행 INSERT)
+  public int createAttachments(List<BoardAttachmentVO> attaches);
+
   // 특정 게시글의 첨부 파일 목록 조회
   public List<BoardAttachmentVO> getAttachmentList(Long bno);
 
+  // 특정 게시글의 첨부파일 blob 해시 조회 (잠금 읽기, 트랜잭션 안에서 호출)
+  public List<String> getAttachmentBlobHashesForUpdate(Long bno);
+
   // 특정 첨부 파일 1개 조회
   public BoardAttachmentVO getAttachment(Long no);
 
   // 특정 첨부 파일 1개 삭제
   public int deleteAttachment(Long no);
 
+  /* 썸네일 관련 메서드 */
+  // 썸네일 등록 (같은 크기가 이미 있으면 경로 갱신)
+  public void createThumbnail(@Param("ano") Long ano, @Param("size") int size, @Param("path") String path);
+
+  // 첨부파일의 특정 크기 썸네일 경로 조회 (없으면 null)
+  public String getThumbnailPath(@Param("ano") Long ano, @Param("size") int size);
+
+  /* 내용 주소(content-addressed) 저장 관련 메서드 */
+  // blob 참조 등록 (없으면 참조 수 1로 추가, 있으면 참조 수 증가)
+  public void acquireBlob(@Param("hash") String hash, @Param("path") String path, @Param("size") long size);
+
+  // blob 참조 수 감소
+  public int releaseBlob(String hash);
+
+  // 참조 수가 0인 blob 삭제 (삭제되었으면 1)
+  public int deleteUnusedBlob(String hash);
+
+  // blob 참조 수 조회 (없으면 null)
+  public Integer getBlobRefCount(String hash);
+
+  // 조회수 일괄 반영 (게시글 번호 → 더할 조회수, 없으면 추가)
+  public void addViewCounts(@Param("counts") Map<Long, Long> counts);
+
+  /* 고아 파일 정리용 커서 (정렬된 결과를 한 행씩 흘려 읽음) */
+  // 기존 방식 첨부파일 경로 (binary 정렬)
+  Cursor<String> getAttachmentPathCursor();
+
+  // 내용 주소 저장 blob 해시 (정렬)
+  Cursor<String> getBlobHashCursor();
+
+  // 썸네일 경로 (binary 정렬)
+  Cursor<String> getThumbnailPathCursor();
+
   // === Pagination ===
   // 전체 게시글 수 조회
   int getTotalCount();
 
+  // 전체 게시글 수 추정치 조회 (information_schema 통계, 대용량 테이블용)
+  Long getEstimatedCount();
+
   // 페이징된 게시글 목록 조회
   List<BoardVO> getPage(PageRequest pageRequest);
 
+  // 페이징된 게시글 요약 목록 조회 (본문 제외, 첨부파일 개수 포함)
+  List<BoardSummaryDTO> getSummaryPage(PageRequest pageRequest);
+
+  // 커서(keyset) 페이징된 게시글 요약 목록 조회 (no < cursor)
+  List<BoardSummaryDTO> getSummaryPageAfter(@Param("cursor") Long cursor, @Param("amount") int amount);
+
+  // 지정한 게시글들의 요약 목록 조회 (검색 결과 등, 순서 보장 안 됨)
+  List<BoardSummaryDTO> getSummaryList(List<Long> nos);
+
 }
\ No newline at end of file
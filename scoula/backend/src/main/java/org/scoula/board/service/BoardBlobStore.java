@@ -0,0 +1,235 @@
+package org.scoula.board.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.scoula.board.domain.BoardAttachmentVO;
+import org.scoula.board.mapper.BoardMapper;
+import org.scoula.common.util.MultipartStream;
+import org.scoula.common.util.TransactionCallbacks;
+import org.scoula.common.util.UploadFileName;
+import org.scoula.common.util.UploadFiles;
+import org.scoula.common.util.UploadedFile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 첨부파일 내용 주소(content-addressed) 저장소
+ * - 파일을 SHA-256 해시 경로(blobs/ab/cd/해시)에 한 번만 저장하고 첨부파일 행은 해시로 참조
+ * - tbl_blob.ref_count로 참조 수를 관리하여 마지막 참조가 사라질 때만 파일 삭제
+ * - 이미 있는 내용을 다시 올리면 파일 기록 없이 참조 수만 증가
+ *
+ * 사용 순서)
+ *   1. stage(): 해시 계산 (처음 보는 내용이면 임시 파일에 기록)
+ *   2. register(): 트랜잭션 안에서 참조 등록 - 커밋되면 임시 파일을 해시 경로로 이동, 롤백되면 삭제
+ *   3. discard(): register() 전에 실패한 경우 임시 파일 정리
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class BoardBlobStore {
+
+  static final String BLOB_DIR = "c:/upload/board/blobs";
+  static final String TEMP_DIR = BLOB_DIR + "/tmp";
+
+  private final BoardMapper boardMapper;
+
+  // false면 기존 방식(파일마다 고유 이름으로 저장) 사용
+  @Value("${board.attachment.dedup:true}")
+  private boolean enabled;
+
+  // 해시 → 파일 배치를 기다리는 업로드 수 (이 해시의 파일은 참조가 0이 되어도 삭제하지 않음)
+  private final Map<String, Integer> pending = new HashMap<>();
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 해시에 해당하는 저장 경로
+   * @param hash SHA-256 (16진수)
+   * @return blobs/앞 2자리/다음 2자리/해시
+   */
+  public static String pathOf(String hash) {
+    return Paths.get(BLOB_DIR, hash.substring(0, 2), hash.substring(2, 4), hash).toString();
+  }
+
+  /**
+   * 컨테이너가 받아 둔 업로드 파일 준비
+   * - 먼저 읽기만 하여 해시를 구하고, 처음 보는 내용일 때만 임시 파일에 기록
+   * @param part 업로드된 파일
+   * @return 저장 준비된 blob
+   */
+  public Blob stage(MultipartFile part) throws IOException {
+    UploadedFile file;
+    try (InputStream in = part.getInputStream()) {
+      file = UploadFiles.digest(in, Long.MAX_VALUE);
+    }
+    file.setFilename(part.getOriginalFilename());
+    file.setContentType(part.getContentType());
+
+    if (reserve(file.getSha256())) {
+      return new Blob(file, null);    // 이미 있는 내용 - 기록 생략
+    }
+    try (InputStream in = part.getInputStream()) {
+      return new Blob(file, UploadFiles.write(in, newTempFile(), Long.MAX_VALUE).getPath());
+    } catch (IOException | RuntimeException e) {
+      unreserve(file.getSha256());
+      throw e;
+    }
+  }
+
+  /**
+   * 스트리밍 파일 파트 준비
+   * - 한 번만 읽을 수 있으므로 임시 파일에 기록하면서 해시를 구하고, 이미 있는 내용이면 임시 파일 삭제
+   * @param part 파일 파트
+   * @param maxSize 허용 최대 크기
+   * @return 저장 준비된 blob
+   */
+  public Blob stage(MultipartStream.Part part, long maxSize) throws IOException {
+    UploadedFile file = UploadFiles.write(part.getBody(), newTempFile(), maxSize);
+    String temp = file.getPath();
+    file.setFilename(part.getFilename());
+    file.setContentType(part.getContentType());
+
+    if (reserve(file.getSha256())) {
+      Files.deleteIfExists(Paths.get(temp));
+      temp = null;
+    }
+    return new Blob(file, temp);
+  }
+
+  /**
+   * 참조 등록 (트랜잭션 안에서 호출)
+   * - 커밋되면 새 내용을 해시 경로로 이동, 롤백되면 임시 파일 삭제
+   * @param blobs stage()로 준비한 blob 목록
+   */
+  public void register(List<Blob> blobs) {
+    if (blobs.isEmpty()) return;
+
+    // 참조 등록 중 실패해도 정리되도록 콜백을 먼저 등록
+    TransactionCallbacks.whenComplete(committed -> blobs.forEach(blob -> finish(blob, committed)));
+    for (Blob blob : blobs) {
+      boardMapper.acquireBlob(blob.getHash(), blob.getPath(), blob.getFile().getSize());
+    }
+  }
+
+  /**
+   * register() 전에 실패한 경우 준비한 blob 정리
+   * @param blobs stage()로 준비한 blob 목록
+   */
+  public void discard(List<Blob> blobs) {
+    blobs.forEach(blob -> finish(blob, false));
+  }
+
+  /**
+   * 참조 해제 (트랜잭션 안에서 호출)
+   * - 참조 수가 0이 된 blob은 커밋 이후 파일 삭제
+   * @param hashes 해제할 해시 목록 (null은 기존 방식 첨부파일이므로 무시)
+   */
+  public void release(List<String> hashes) {
+    for (String hash : hashes) {
+      if (hash == null) continue;
+
+      boardMapper.releaseBlob(hash);
+      if (boardMapper.deleteUnusedBlob(hash) == 1) {
+        TransactionCallbacks.afterCommit(() -> deleteIfUnused(hash));
+      }
+    }
+  }
+
+  // 해시 경로에 파일이 있는지 확인하고 배치 대기로 표시
+  private boolean reserve(String hash) {
+    synchronized (pending) {
+      pending.merge(hash, 1, Integer::sum);
+      return new File(pathOf(hash)).exists();
+    }
+  }
+
+  private void unreserve(String hash) {
+    synchronized (pending) {
+      pending.computeIfPresent(hash, (k, count) -> count > 1 ? count - 1 : null);
+    }
+  }
+
+  // 트랜잭션 종료 후 임시 파일 배치/정리 (blob마다 한 번만 처리)
+  private void finish(Blob blob, boolean committed) {
+    if (!blob.done.compareAndSet(false, true)) return;
+
+    synchronized (pending) {
+      try {
+        File target = new File(blob.getPath());
+        if (committed && blob.temp != null && !target.exists()) {
+          target.getParentFile().mkdirs();
+          Files.move(Paths.get(blob.temp), target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        }
+      } catch (IOException e) {
+        log.error("첨부파일 배치 실패: " + blob.getHash() + " - " + e.getMessage(), e);
+      } finally {
+        if (blob.temp != null) {
+          UploadFiles.deleteQuietly(List.of(blob.temp));
+        }
+        unreserve(blob.getHash());
+      }
+    }
+  }
+
+  // 참조가 다시 생기지 않았고 배치 대기 중인 업로드도 없을 때만 파일 삭제 (고아 파일 정리에서도 사용)
+  boolean deleteIfUnused(String hash) {
+    synchronized (pending) {
+      if (!pending.containsKey(hash) && boardMapper.getBlobRefCount(hash) == null) {
+        return new File(pathOf(hash)).delete();
+      }
+      return false;
+    }
+  }
+
+  private static File newTempFile() {
+    File dir = new File(TEMP_DIR);
+    dir.mkdirs();
+    return new File(dir, UploadFileName.getUniqueName("blob.part"));
+  }
+
+  /**
+   * 저장 준비된 blob
+   */
+  public static class Blob {
+    @Getter
+    private final UploadedFile file;  // 해시, 크기, 원본 파일명, MIME 타입
+    private final String temp;        // 새 내용을 기록한 임시 파일 (이미 있는 내용이면 null)
+    private final AtomicBoolean done = new AtomicBoolean();
+
+    Blob(UploadedFile file, String temp) {
+      this.file = file;
+      this.temp = temp;
+      file.setPath(pathOf(file.getSha256()));
+    }
+
+    public String getHash() {
+      return file.getSha256();
+    }
+
+    public String getPath() {
+      return file.getPath();
+    }
+
+    // 첨부파일 행으로 변환
+    public BoardAttachmentVO toAttachment(Long bno) {
+      BoardAttachmentVO attachment = BoardAttachmentVO.of(file, bno);
+      attachment.setBlobHash(getHash());
+      return attachment;
+    }
+  }
+}
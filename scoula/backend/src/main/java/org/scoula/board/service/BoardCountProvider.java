@@ -0,0 +1,98 @@
+package org.scoula.board.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.scoula.board.mapper.BoardMapper;
+import org.scoula.common.pagination.TotalCountProvider;
+import org.scoula.common.util.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 전체 건수 제공자
+ * - 최초 1회 COUNT(*)로 초기화한 뒤 create/delete 시 원자적으로 증감
+ * - 주기적으로 실제 건수와 맞춰(reconcile) 누적 오차를 보정
+ * - 게시글이 매우 많으면 주기적인 COUNT(*) 대신 information_schema 추정치로 오차 여부만 확인 가능
+ *   - 추정치(InnoDB 통계)는 실제 건수와 수십 % 차이가 날 수 있으므로 유지 중인 건수를 추정치로 덮어쓰지 않음
+ *   - 추정치와의 차이가 허용 비율(board.count.estimate-tolerance) 이내면 유지 중인 건수를 그대로 사용하고,
+ *     넘을 때만(외부에서 대량 삭제/적재 등) 정확한 COUNT(*)로 다시 맞춤
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class BoardCountProvider implements TotalCountProvider {
+
+  private final BoardMapper boardMapper;
+
+  // 이 건수를 넘으면 정확한 COUNT(*) 대신 추정치 사용 (0이면 항상 정확한 건수)
+  @Value("${board.count.estimate-threshold:0}")
+  private long estimateThreshold;
+
+  // 추정치와 유지 중인 건수의 허용 차이 비율 (넘으면 COUNT(*)로 보정)
+  @Value("${board.count.estimate-tolerance:0.5}")
+  private double estimateTolerance;
+
+  private final AtomicLong count = new AtomicLong();
+  private volatile boolean seeded = false;
+
+  @Override
+  public int getTotalCount() {
+    if (!seeded) {
+      seed();
+    }
+    return (int) Math.max(0, count.get());
+  }
+
+  // 게시글 등록 시 호출 - 트랜잭션 중이면 커밋 이후에 반영
+  public void increment() {
+    TransactionCallbacks.afterCommit(count::incrementAndGet);
+  }
+
+  // 게시글 삭제 시 호출 - 트랜잭션 중이면 커밋 이후에 반영
+  public void decrement() {
+    TransactionCallbacks.afterCommit(count::decrementAndGet);
+  }
+
+  /**
+   * 실제 건수와 동기화
+   * - 증감과 동시에 실행되면 한 주기 동안 작은 오차가 생길 수 있으나 다음 주기에 보정됨
+   */
+  @Scheduled(fixedDelayString = "${board.count.reconcile-interval:60000}",
+             initialDelayString = "${board.count.reconcile-interval:60000}")
+  public void reconcile() {
+    long actual = queryCount();
+    long previous = count.getAndSet(actual);
+    seeded = true;
+
+    if (previous != actual) {
+      log.info("게시글 건수 보정: " + previous + " → " + actual);
+    }
+  }
+
+  // 최초 1회 초기화
+  private synchronized void seed() {
+    if (seeded) return;
+    count.set(queryCount());
+    seeded = true;
+  }
+
+  // 보정할 건수 조회
+  // - 임계값 초과 시 추정치가 허용 범위 안이면 유지 중인 건수 반환 (추정치 자체는 반환하지 않음)
+  private long queryCount() {
+    long current = count.get();
+    if (seeded && estimateThreshold > 0 && current > estimateThreshold) {
+      Long estimated = boardMapper.getEstimatedCount();
+      if (estimated == null) {
+        return boardMapper.getTotalCount();
+      }
+      if (Math.abs(estimated - current) <= current * estimateTolerance) {
+        return current;
+      }
+      log.info("게시글 건수 추정치 차이가 큼: " + current + " / 추정 " + estimated + " → COUNT(*)로 보정");
+    }
+    return boardMapper.getTotalCount();
+  }
+}
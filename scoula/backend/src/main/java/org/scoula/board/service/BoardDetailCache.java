@@ -0,0 +1,32 @@
+package org.scoula.board.service;
+
+import org.scoula.board.dto.BoardDTO;
+import org.scoula.common.cache.LruCache;
+import org.scoula.common.util.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 상세(게시글 + 첨부파일 조인) 캐시
+ * - get(no) 앞단의 read-through 캐시
+ * - 게시글/첨부파일 변경 시 evict()로 무효화
+ */
+@Component
+public class BoardDetailCache extends LruCache<Long, BoardDTO> {
+
+  public BoardDetailCache(@Value("${board.cache.max-size:1000}") int maxSize,
+                          @Value("${board.cache.ttl:300000}") long ttlMillis) {
+    super(maxSize, ttlMillis);
+  }
+
+  /**
+   * 게시글 캐시 무효화
+   * - 즉시 제거하고, 트랜잭션 중이면 종료 후 한 번 더 제거
+   *   (트랜잭션 도중 다른 요청이 커밋 전 값을 다시 캐시하는 경우 대비)
+   * @param no 게시글 번호
+   */
+  public void evict(Long no) {
+    invalidate(no);
+    TransactionCallbacks.afterCompletion(() -> invalidate(no));
+  }
+}
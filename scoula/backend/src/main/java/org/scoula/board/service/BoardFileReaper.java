@@ -0,0 +1,99 @@
+package org.scoula.board.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.ibatis.cursor.Cursor;
+import org.scoula.board.mapper.BoardMapper;
+import org.scoula.common.util.OrphanReaper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 첨부파일 고아 파일 정리 작업
+ * - 기존 방식 첨부파일: c:/upload/board 바로 아래 파일 ↔ tbl_board_attachment.path
+ * - 내용 주소 저장 blob: blobs/ab/cd/해시 ↔ tbl_blob.hash (업로드 중인 해시는 BoardBlobStore가 보호)
+ * - 남은 임시 파일: blobs/tmp 아래 파일은 참조가 없으므로 최소 보관 시간이 지나면 삭제
+ * - 썸네일: thumbnails 아래 파일 ↔ tbl_board_thumbnail.path (첨부파일 삭제 시 행은 CASCADE 삭제됨)
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class BoardFileReaper {
+
+  private final BoardMapper boardMapper;
+  private final BoardBlobStore blobStore;
+  private final OrphanReaper reaper;
+  private final TransactionTemplate transactionTemplate;
+
+  // 마지막 실행 결과 (메트릭 조회용)
+  private volatile List<OrphanReaper.Report> lastReports = List.of();
+
+  @Scheduled(fixedDelayString = "${upload.reaper.interval:3600000}",
+             initialDelayString = "${upload.reaper.interval:3600000}")
+  public void run() {
+    try {
+      lastReports = List.of(
+              reap("board", OrphanReaper.sortedFiles(new File(BoardServiceImpl.BASE_DIR), file -> true),
+                      File::getPath, boardMapper::getAttachmentPathCursor, File::delete),
+              reap("board-blob", OrphanReaper.sortedFilesInShards(new File(BoardBlobStore.BLOB_DIR)),
+                      File::getName, boardMapper::getBlobHashCursor,
+                      file -> blobStore.deleteIfUnused(file.getName())),
+              reap("board-blob-tmp", OrphanReaper.sortedFiles(new File(BoardBlobStore.TEMP_DIR), file -> true),
+                      File::getName, null, File::delete),
+              reap("board-thumbnail", OrphanReaper.sortedFiles(new File(BoardThumbnailGenerator.THUMBNAIL_DIR), file -> true),
+                      File::getPath, boardMapper::getThumbnailPathCursor, File::delete));
+    } catch (RuntimeException e) {
+      // DB/디렉토리를 읽지 못하면 아무것도 삭제하지 않고 다음 주기에 다시 시도
+      log.error("게시글 고아 파일 정리 실패: " + e.getMessage(), e);
+    }
+  }
+
+  // 마지막 실행 결과
+  public List<OrphanReaper.Report> getLastReports() {
+    return lastReports;
+  }
+
+  /**
+   * 한 대상 정리
+   * @param name 대상 이름
+   * @param files 정렬된 파일 목록
+   * @param key 파일 → 참조 키
+   * @param referenced 정렬된 참조 키 커서 (null이면 참조 없음)
+   * @param deleter 삭제 함수
+   */
+  private OrphanReaper.Report reap(String name, Iterator<File> files, Function<File, String> key,
+                                   Supplier<Cursor<String>> referenced,
+                                   Predicate<File> deleter) {
+    OrphanReaper.Report report = reaper.newReport(name);
+    List<File> orphans = new ArrayList<>();
+
+    // 1. 커서가 열려 있는 동안 병합하여 고아 파일 수집 (커서는 트랜잭션 안에서만 유효)
+    if (referenced == null) {
+      reaper.collect(report, files, key, Collections.emptyIterator(), orphans);
+    } else {
+      transactionTemplate.executeWithoutResult(status -> {
+        try (Cursor<String> cursor = referenced.get()) {
+          reaper.collect(report, files, key, cursor.iterator(), orphans);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    }
+
+    // 2. 커서를 닫은 뒤 배치 단위로 삭제
+    reaper.delete(report, orphans, deleter);
+    return reaper.finish(report);
+  }
+}
@@ -0,0 +1,174 @@
+package org.scoula.board.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.scoula.board.dto.BoardSummaryDTO;
+import org.scoula.board.dto.PopularBoardDTO;
+import org.scoula.board.mapper.BoardMapper;
+import org.scoula.common.ranking.HourlyCounter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 게시글 순위
+ * - 상세 조회를 1시간 단위 버킷에 기록하고, 주기적으로 집계 기간별 상위 K개 목록을 미리 만들어 둠
+ * - 요청은 미리 만든 불변 목록을 그대로 반환 (요청마다 ORDER BY 조회수 쿼리를 실행하지 않음)
+ * - 목록은 AtomicReference로 한 번에 교체하므로 읽는 쪽은 락 없이 항상 완성된 목록을 봄
+ * - 버킷 내용은 파일로 저장하여 재시작 후에도 순위 유지
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class BoardPopularity implements InitializingBean, DisposableBean {
+
+  private static final ObjectMapper JSON = new ObjectMapper();
+
+  private final BoardMapper boardMapper;
+
+  // 제공하는 집계 기간(시간) - 가장 긴 기간만큼 버킷 보관
+  @Value("${board.popular.windows:1,24,168}")
+  private int[] windows;
+
+  // 목록 크기
+  @Value("${board.popular.size:10}")
+  private int size;
+
+  // 버킷 저장 파일
+  // - 첨부파일 디렉토리(c:/upload/board) 바로 아래에 두면 참조 없는 파일로 보고 고아 파일 정리 작업이 삭제함
+  @Value("${board.popular.snapshot:c:/upload/popular/popular.json}")
+  private String snapshotPath;
+
+  private HourlyCounter counter;
+
+  // 집계 기간(시간) → 인기 게시글 목록 (불변)
+  private final AtomicReference<Map<Integer, List<PopularBoardDTO>>> popular = new AtomicReference<>(Map.of());
+
+  @Override
+  public void afterPropertiesSet() {
+    counter = new HourlyCounter(Arrays.stream(windows).max().orElse(24));
+    restore();
+    refresh();
+  }
+
+  @Override
+  public void destroy() {
+    save();
+  }
+
+  /**
+   * 게시글 상세 조회 기록
+   * @param no 게시글 번호
+   */
+  public void record(Long no) {
+    counter.record(no);
+  }
+
+  /**
+   * 미리 만든 인기 게시글 목록
+   * @param window 집계 기간 (예: 1h, 24h, 7d)
+   * @return 조회수 내림차순 목록
+   */
+  public List<PopularBoardDTO> get(String window) {
+    int hours = parseWindow(window);
+    List<PopularBoardDTO> boards = popular.get().get(hours);
+    if (boards == null) {
+      throw new IllegalArgumentException("지원하지 않는 집계 기간입니다: " + window);
+    }
+    return boards;
+  }
+
+  /**
+   * 집계 기간 문자열을 시간으로 변환
+   * @param window 숫자 + 단위(h: 시간, d: 일)
+   */
+  static int parseWindow(String window) {
+    if (window == null || !window.matches("\\d{1,4}[hd]")) {
+      throw new IllegalArgumentException("집계 기간 형식이 잘못되었습니다: " + window);
+    }
+    int value = Integer.parseInt(window.substring(0, window.length() - 1));
+    return window.endsWith("d") ? value * 24 : value;
+  }
+
+  /**
+   * 집계 기간별 목록 재생성 후 교체, 버킷 저장
+   */
+  @Scheduled(fixedDelayString = "${board.popular.refresh-interval:60000}",
+             initialDelayString = "${board.popular.refresh-interval:60000}")
+  public void refresh() {
+    try {
+      counter.expire();
+
+      // 1. 기간별 상위 항목 (삭제된 게시글을 걸러도 K개가 남도록 여유 있게)
+      Map<Integer, List<HourlyCounter.Entry>> tops = new HashMap<>();
+      Set<Long> nos = new LinkedHashSet<>();
+      for (int hours : windows) {
+        List<HourlyCounter.Entry> top = counter.top(hours, size * 2);
+        tops.put(hours, top);
+        top.forEach(entry -> nos.add(entry.getId()));
+      }
+
+      // 2. 모든 기간에 필요한 게시글 요약을 한 번에 조회
+      Map<Long, BoardSummaryDTO> summaries = nos.isEmpty() ? Map.of()
+              : boardMapper.getSummaryList(new ArrayList<>(nos)).stream()
+                      .collect(Collectors.toMap(BoardSummaryDTO::getNo, Function.identity()));
+
+      // 3. 불변 목록으로 만들어 한 번에 교체
+      Map<Integer, List<PopularBoardDTO>> next = new HashMap<>();
+      tops.forEach((hours, top) -> next.put(hours, top.stream()
+              .filter(entry -> summaries.containsKey(entry.getId()))
+              .limit(size)
+              .map(entry -> PopularBoardDTO.of(summaries.get(entry.getId()), entry.getCount()))
+              .toList()));
+      popular.set(Map.copyOf(next));
+    } catch (RuntimeException e) {
+      // 이전 목록을 계속 제공하고 다음 주기에 다시 시도
+      log.error("인기 게시글 갱신 실패: " + e.getMessage(), e);
+    }
+    save();
+  }
+
+  // 버킷 내용을 파일로 저장 (임시 파일에 쓴 뒤 교체)
+  private void save() {
+    File file = new File(snapshotPath);
+    File temp = new File(snapshotPath + ".part");
+    try {
+      file.getAbsoluteFile().getParentFile().mkdirs();
+      JSON.writeValue(temp, counter.snapshot());
+      Files.move(temp.toPath(), file.toPath(),
+              StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      log.warn("인기 게시글 버킷 저장 실패: " + e.getMessage());
+    }
+  }
+
+  // 저장된 버킷 내용 복원 (없거나 읽을 수 없으면 빈 상태로 시작)
+  private void restore() {
+    File file = new File(snapshotPath);
+    if (!file.isFile()) return;
+    try {
+      counter.restore(JSON.readValue(file, new TypeReference<Map<Long, Map<Long, Long>>>() {}));
+    } catch (IOException e) {
+      log.warn("인기 게시글 버킷 복원 실패: " + e.getMessage());
+    }
+  }
+}
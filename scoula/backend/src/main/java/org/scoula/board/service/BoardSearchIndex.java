@@ -0,0 +1,98 @@
+package org.scoula.board.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.ibatis.cursor.Cursor;
+import org.scoula.board.domain.BoardVO;
+import org.scoula.board.mapper.BoardMapper;
+import org.scoula.common.search.InvertedIndex;
+import org.scoula.common.util.TransactionCallbacks;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 검색 색인
+ * - 시작 시 BoardMapper 커서로 전체 게시글을 한 행씩 읽어 색인 구성
+ * - 이후 create/update/delete 시 커밋된 변경만 증분 반영
+ * - 제목은 본문보다 높은 가중치로 색인
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class BoardSearchIndex implements InitializingBean {
+
+  private static final int TITLE_WEIGHT = 3;    // 제목 가중치
+  private static final int CONTENT_WEIGHT = 1;  // 본문 가중치
+
+  private final BoardMapper boardMapper;
+  @Qualifier("readOnlyTransactionTemplate")
+  private final TransactionTemplate readOnlyTemplate;   // 커서 조회용
+  private final InvertedIndex index = new InvertedIndex();
+
+  // 시작 시 전체 색인 구성
+  @Override
+  public void afterPropertiesSet() {
+    build();
+  }
+
+  // 전체 색인 (재)구성
+  public void build() {
+    long start = System.currentTimeMillis();
+    try {
+      index.clear();
+      readOnlyTemplate.executeWithoutResult(status -> {
+        try (Cursor<BoardVO> cursor = boardMapper.getCursor()) {
+          for (BoardVO board : cursor) {
+            index.put(board.getNo(), terms(board.getTitle(), board.getContent()));
+          }
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+      log.info("게시글 검색 색인 완료: " + index.size() + "건, "
+              + (System.currentTimeMillis() - start) + "ms");
+    } catch (Exception e) {
+      // 색인 실패로 애플리케이션이 뜨지 않는 일은 없도록 함 (검색 결과만 비게 됨)
+      log.error("게시글 검색 색인 실패: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * 게시글 색인 추가/교체 (트랜잭션 중이면 커밋 이후 반영)
+   */
+  public void index(Long no, String title, String content) {
+    Map<String, Integer> terms = terms(title, content);
+    TransactionCallbacks.afterCommit(() -> index.put(no, terms));
+  }
+
+  /**
+   * 게시글 색인 삭제 (트랜잭션 중이면 커밋 이후 반영)
+   */
+  public void remove(Long no) {
+    TransactionCallbacks.afterCommit(() -> index.remove(no));
+  }
+
+  /**
+   * 검색
+   * @param query 검색어
+   * @return 관련도 순 검색 결과
+   */
+  public List<InvertedIndex.Hit> search(String query) {
+    return index.search(query);
+  }
+
+  private Map<String, Integer> terms(String title, String content) {
+    Map<String, Integer> terms = new HashMap<>();
+    InvertedIndex.countTerms(terms, title, TITLE_WEIGHT);
+    InvertedIndex.countTerms(terms, content, CONTENT_WEIGHT);
+    return terms;
+  }
+}
@@ -1,10 +1,16 @@
 package org.scoula.board.service;
 
 import org.scoula.board.domain.BoardAttachmentVO;
+import org.scoula.board.dto.BoardBatchItemDTO;
 import org.scoula.board.dto.BoardDTO;
+import org.scoula.board.dto.PopularBoardDTO;
+import org.scoula.board.dto.BoardSummaryDTO;
 import org.scoula.common.pagination.Page;
 import org.scoula.common.pagination.PageRequest;
+import org.scoula.common.util.MultipartStream;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface BoardService {
@@ -14,6 +20,9 @@ public interface BoardService {
    */
   public List<BoardDTO> getList();
 
+  // 전체 게시글을 NDJSON(한 줄에 게시글 하나)으로 출력 - 게시글 수와 무관하게 일정한 메모리 사용
+  public long export(OutputStream out) throws IOException;
+
   /**
    * 특정 게시글 조회
    * @param no 게시글 번호
@@ -21,6 +30,28 @@ public interface BoardService {
    */
   public BoardDTO get(Long no);
 
+  /**
+   * 여러 게시글 한 번에 조회
+   * - 캐시에 있는 게시글은 캐시에서, 나머지는 한 번의 IN 조회로 읽음
+   * @param nos 게시글 번호 목록 (최대 board.batch.max-size개)
+   * @return 요청 순서대로의 결과 (없는 게시글은 found=false)
+   */
+  public List<BoardBatchItemDTO> getBatch(List<Long> nos);
+
+  /**
+   * 게시글 조회수 1 증가
+   * - 메모리에서 세고 DB에는 주기적으로 일괄 반영
+   * @param no 게시글 번호
+   */
+  public void countView(Long no);
+
+  /**
+   * 인기 게시글 목록 (주기적으로 미리 만든 목록)
+   * @param window 집계 기간 (예: 1h, 24h, 7d)
+   * @return 기간 내 조회수 내림차순 목록
+   */
+  public List<PopularBoardDTO> getPopular(String window);
+
   /**
    * 게시글 등록
    * @param board 등록할 게시글 DTO
@@ -28,6 +59,14 @@ public interface BoardService {
    */
   public BoardDTO create(BoardDTO board);
 
+  /**
+   * 게시글 등록 (스트리밍 업로드)
+   * - 요청 본문을 파트 단위로 읽으며 첨부파일을 최종 위치에 바로 기록
+   * @param multipart 요청 본문 멀티파트 스트림 (title, content, writer, files)
+   * @return 게시글 DTO
+   */
+  public BoardDTO createStreaming(MultipartStream multipart);
+
   /**
    * 게시글 수정
    * @param board 수정할 게시글 DTO
@@ -44,9 +83,20 @@ public interface BoardService {
 
   // 첨부파일 관련 메서드 추가
   public BoardAttachmentVO getAttachment(Long no);
+
+  // 첨부파일 썸네일 경로 조회 (요청 크기에 가까운 썸네일, 생성 전이면 원본)
+  public String getThumbnailPath(Long no, Integer size);
   public boolean deleteAttachment(Long no);
 
 
-  // 페이징된 게시글 목록 조회
-  Page<BoardDTO> getPage(PageRequest pageRequest);
+  // 페이징된 게시글 요약 목록 조회 (본문 제외)
+  Page<BoardSummaryDTO> getPage(PageRequest pageRequest);
+
+  /**
+   * 게시글 제목/본문 검색
+   * @param query 검색어
+   * @param pageRequest 페이지 요청
+   * @return 관련도 순으로 정렬된 게시글 요약 페이지
+   */
+  Page<BoardSummaryDTO> search(String query, PageRequest pageRequest);
 }
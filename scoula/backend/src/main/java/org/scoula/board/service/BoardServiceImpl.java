@@ -1,22 +1,51 @@
 package org.scoula.board.service;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.ibatis.cursor.Cursor;
 import org.scoula.board.domain.BoardAttachmentVO;
 import org.scoula.common.pagination.Page;
+import org.scoula.common.pagination.PageCursor;
 import org.scoula.common.pagination.PageRequest;
+import org.scoula.common.search.InvertedIndex;
+import org.scoula.common.util.MultipartStream;
+import org.scoula.common.util.Timestamps;
+import org.scoula.common.util.TransactionCallbacks;
 import org.scoula.common.util.UploadFiles;
+import org.scoula.common.util.UploadedFile;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.scoula.board.domain.BoardVO;
+import org.scoula.board.dto.BoardBatchItemDTO;
 import org.scoula.board.dto.BoardDTO;
+import org.scoula.board.dto.PopularBoardDTO;
+import org.scoula.board.dto.BoardSummaryDTO;
 import org.scoula.board.mapper.BoardMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Log4j2                      // 로깅
@@ -25,12 +54,42 @@ import org.springframework.web.multipart.MultipartFile;
 public class BoardServiceImpl implements BoardService {
 
   private final BoardMapper boardMapper;  // Mapper 의존성 주입
+  private final BoardCountProvider countProvider;  // 전체 게시글 수 제공자
+  private final BoardDetailCache boardCache;       // 게시글 상세 캐시
+  private final BoardSearchIndex searchIndex;      // 게시글 검색 색인
+  private final BoardBlobStore blobStore;          // 첨부파일 내용 주소 저장소
+  private final BoardThumbnailGenerator thumbnails;  // 이미지 첨부파일 썸네일 생성기
+  private final BoardViewCounter viewCounter;      // 조회수 카운터 (지연 기록)
+  private final BoardPopularity popularity;        // 인기 게시글 순위
+
+  @Qualifier("uploadExecutor")
+  private final Executor uploadExecutor;           // 첨부파일 저장용 I/O 스레드 풀
+  private final TransactionTemplate transactionTemplate;  // 짧은 DB 트랜잭션용
+  @Qualifier("readOnlyTransactionTemplate")
+  private final TransactionTemplate exportTemplate;       // 내보내기용 읽기 전용 트랜잭션
+  private final ObjectMapper objectMapper;                // 내보내기 JSON 직렬화 (MVC 응답과 같은 설정)
+
+  // 스트리밍 업로드 시 파일 하나의 최대 크기
+  @Value("${upload.stream.max-file-size:104857600}")
+  private long maxStreamFileSize;
+
+  // 여러 게시글 조회 시 최대 게시글 수
+  @Value("${board.batch.max-size:100}")
+  private int maxBatchSize;
+
+  // 스트리밍 업로드 시 텍스트 필드 하나의 최대 크기
+  private final static int MAX_FIELD_SIZE = 1024 * 1024;
+
+
+  // 내보내기 시 이 행 수마다 출력을 내보냄
+  private final static int EXPORT_FLUSH_ROWS = 1000;
 
   // 파일 저장될 디렉토리 경로
-  private final static String BASE_DIR = "c:/upload/board";
+  final static String BASE_DIR = "c:/upload/board";
 
 
   // 목록 조회 서비스
+  @Transactional(readOnly = true)   // 읽기 전용 - 복제본에서 조회
   @Override
   public List<BoardDTO> getList() {
     log.info("getList..........");
@@ -40,66 +99,249 @@ public class BoardServiceImpl implements BoardService {
             .toList();                       // Stream<BoardDTO> → List<BoardDTO>
   }
 
+  // 전체 게시글 NDJSON 내보내기
+  @Override
+  public long export(OutputStream out) throws IOException {
+    log.info("export..........");
+
+    // 하나의 생성기로 모든 행을 기록 (행마다 직렬화 객체를 만들지 않음)
+    JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);   // 응답 스트림은 호출한 쪽에서 닫음
+    long[] count = {0};
+
+    try {
+      // 커서는 트랜잭션(연결)이 열려 있는 동안만 유효
+      exportTemplate.executeWithoutResult(status -> {
+        try (Cursor<BoardVO> cursor = boardMapper.getCursor()) {
+          for (BoardVO vo : cursor) {
+            BoardDTO board = BoardDTO.of(vo);
+            board.setViewCount(board.getViewCount() + viewCounter.getPending(vo.getNo()));   // 아직 기록되지 않은 조회수 포함
+            generator.writeObject(board);
+            generator.writeRaw('\n');
+            if (++count[0] % EXPORT_FLUSH_ROWS == 0) {
+              generator.flush();   // 쌓인 출력을 내보내 버퍼가 커지지 않도록
+            }
+          }
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+
+    generator.flush();
+    return count[0];
+  }
+
   // 단일 조회 서비스
+  // - 트랜잭션 없이 원본에서 조회: 캐시를 채우는 값이고, 등록/수정 직후 호출되므로 복제 지연이 있으면 안 됨
   @Override
   public BoardDTO get(Long no) {
     log.info("get......" + no);
 
-    BoardVO vo = boardMapper.get(no);               // DB에서 VO 조회
-    BoardDTO dto = BoardDTO.of(vo);                 // VO → DTO 변환
+    // 캐시에 없을 때만 DB에서 VO 조회 후 DTO로 변환하여 캐시에 저장
+    BoardDTO dto = boardCache.get(no, key -> BoardDTO.of(boardMapper.get(key)));
+    if (dto == null) {
+      throw new NoSuchElementException();  // 없으면 예외 발생
+    }
+
+    // 캐시된 객체는 공유되므로 복사본에 아직 기록되지 않은 조회수를 더해 반환
+    return dto.toBuilder()
+            .viewCount(dto.getViewCount() + viewCounter.getPending(no))
+            .build();
+  }
+
+  // 여러 게시글 조회 서비스
+  // - get과 같이 원본에서 조회하여 캐시를 채움, 캐시에 없는 게시글만 IN 조회 한 번으로 읽음
+  @Override
+  public List<BoardBatchItemDTO> getBatch(List<Long> nos) {
+    log.info("getBatch......" + nos);
+    if (nos.size() > maxBatchSize) {
+      throw new IllegalArgumentException("한 번에 조회할 수 있는 게시글은 최대 " + maxBatchSize + "개입니다: " + nos.size());
+    }
+
+    Map<Long, BoardDTO> boards = boardCache.getAll(nos, missing -> boardMapper.getDetailList(missing).stream()
+            .collect(Collectors.toMap(BoardVO::getNo, BoardDTO::of)));
+
+    // 요청 순서대로 결과 구성 (조회수는 get과 같이 아직 기록되지 않은 값을 더함)
+    return nos.stream()
+            .map(no -> {
+              BoardDTO board = boards.get(no);
+              return BoardBatchItemDTO.of(no, board == null ? null : board.toBuilder()
+                      .viewCount(board.getViewCount() + viewCounter.getPending(no))
+                      .build());
+            })
+            .toList();
+  }
 
-    return Optional.ofNullable(dto)                 // null 안전성 처리
-            .orElseThrow(NoSuchElementException::new);  // 없으면 예외 발생
+  // 조회수 증가 (메모리에만 반영, BoardViewCounter가 주기적으로 기록)
+  @Override
+  public void countView(Long no) {
+    viewCounter.increment(no);
+    popularity.record(no);
+  }
+
+  // 인기 게시글 목록 (요청마다 집계하지 않고 미리 만든 목록 반환)
+  @Override
+  public List<PopularBoardDTO> getPopular(String window) {
+    return popularity.get(window);
   }
 
 
 
   // 게시글 등록 서비스
-  @Transactional  // 여러 DB 작업을 하나의 트랜잭션으로 처리
+  // - 파일 기록은 트랜잭션 밖에서 먼저 끝내고, DB 작업만 짧은 트랜잭션으로 처리
   @Override
   public BoardDTO create(BoardDTO dto) {
-
-    // 1. 게시글 등록
     log.info("create......" + dto);
-    BoardVO vo = dto.toVo();         // DTO → VO 변환
-    boardMapper.create(vo);            // DB에 저장
-    dto.setNo(vo.getNo());           // 생성된 PK를 DTO에 설정
 
-    // 2. 첨부파일 처리
-    List<MultipartFile> files = dto.getFiles();
-    if (files != null && !files.isEmpty()) {
-      upload(vo.getNo(), files);  // 게시글 번호가 필요하므로 게시글 등록 후 처리
+    // 1. 첨부파일을 디스크에 준비 (DB 연결을 잡지 않은 상태)
+    Staged staged = stage(dto.getFiles());
+
+    // 2. 게시글과 첨부파일 행 저장
+    return insert(dto, staged);
+  }
+
+
+
+  // 게시글 등록 서비스 (스트리밍 업로드)
+  @Override
+  public BoardDTO createStreaming(MultipartStream multipart) {
+    log.info("createStreaming......");
+
+    BoardDTO dto = new BoardDTO();
+    Staged staged = new Staged();
+    try {
+      // 1. 파트를 순서대로 읽으면서 파일은 바로 기록, 텍스트는 DTO에 설정
+      for (MultipartStream.Part part; (part = multipart.next()) != null; ) {
+        if (part.isFile()) {
+          if (part.getFilename().isEmpty()) continue;   // 선택되지 않은 파일 입력
+          if (blobStore.isEnabled()) {
+            staged.blobs.add(blobStore.stage(part, maxStreamFileSize));
+          } else {
+            staged.files.add(UploadFiles.upload(BASE_DIR, part, maxStreamFileSize));
+          }
+          continue;
+        }
+
+        String value = part.readString(MAX_FIELD_SIZE);
+        switch (String.valueOf(part.getName())) {
+          case "title" -> dto.setTitle(value);
+          case "content" -> dto.setContent(value);
+          case "writer" -> dto.setWriter(value);
+          default -> log.debug("알 수 없는 필드 무시: " + part.getName());
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      // 읽기 실패 - 이미 기록한 파일 정리
+      settle(staged, false);
+      if (e instanceof IOException) {
+        throw new UncheckedIOException((IOException) e);
+      }
+      throw (RuntimeException) e;
     }
 
-    return get(vo.getNo());
+    // 2. 게시글과 첨부파일 행 저장
+    return insert(dto, staged);
   }
 
+  /**
+   * 게시글과 준비된 첨부파일 행을 하나의 짧은 트랜잭션으로 저장 (등록 공통)
+   * - 커밋에 실패하면 준비한 파일 삭제
+   * @param dto 게시글 정보
+   * @param staged stage()로 준비한 첨부파일
+   * @return 등록된 게시글 (다시 조회하지 않고 생성된 번호, 저장한 값, 저장한 첨부파일 행으로 구성)
+   */
+  private BoardDTO insert(BoardDTO dto, Staged staged) {
+    try {
+      return transactionTemplate.execute(status -> {
+        BoardVO vo = dto.toVo();         // DTO → VO 변환
+        Date now = Timestamps.now();
+        vo.setRegDate(now);
+        vo.setUpdateDate(now);
+        boardMapper.create(vo);          // DB에 저장 (생성된 번호가 vo에 설정됨)
+        countProvider.increment();       // 전체 건수 증가 (커밋 이후 반영)
+        boardCache.evict(vo.getNo());    // 롤백 시 트랜잭션 중 캐시된 값이 남지 않도록
+        searchIndex.index(vo.getNo(), vo.getTitle(), vo.getContent());  // 검색 색인 (커밋 이후 반영)
+        vo.setAttaches(attach(vo.getNo(), staged, now));   // 첨부파일 행 저장
+        return BoardDTO.of(vo);
+      });
+    } catch (RuntimeException e) {
+      settle(staged, false);   // 트랜잭션 시작 전 실패 대비 (트랜잭션 안의 실패는 롤백 시 이미 정리됨)
+      throw e;
+    }
+  }
 
 
   // 게시글 수정 서비스
+  // - 등록과 같이 파일 준비 후 게시글 수정과 첨부파일 추가를 한 트랜잭션으로 처리 (일부만 반영되지 않음)
+  // - 응답은 캐시된 수정 전 게시글에 수정한 값과 추가한 첨부파일을 합쳐 구성 (캐시에 없을 때만 다시 조회)
   @Override
   public BoardDTO update(BoardDTO board) {
     log.info("update......" + board);
 
-    boardMapper.update(board.toVo());  // 영향받은 행 수 반환
+    // 1. 첨부파일을 디스크에 준비
+    Staged staged = stage(board.getFiles());
+    BoardDTO before = boardCache.get(board.getNo());   // 수정 전 게시글 (무효화 전에 확보, 없으면 null)
+
+    // 2. 게시글 수정과 첨부파일 행 저장
+    Date now = Timestamps.now();
+    List<BoardAttachmentVO> added;
+    try {
+      added = transactionTemplate.execute(status -> {
+        BoardVO vo = board.toVo();
+        vo.setUpdateDate(now);
+        if (boardMapper.update(vo) == 0) {   // 영향받은 행 수 반환
+          throw new NoSuchElementException();          // 없는 게시글 - 롤백 후 준비한 파일 삭제
+        }
+        boardCache.evict(board.getNo());   // 변경된 게시글 캐시 무효화
+        searchIndex.index(board.getNo(), board.getTitle(), board.getContent());  // 검색 색인 갱신
+        return attach(board.getNo(), staged, now);
+      });
+    } catch (RuntimeException e) {
+      settle(staged, false);
+      throw e;
+    }
 
-    // 파일 업로드 처리
-    List<MultipartFile> files = board.getFiles();
-    if(files != null && !files.isEmpty()) {
-      upload(board.getNo(), files);
+    // 3. 등록일시와 기존 첨부파일을 알 수 없으면 조회
+    if (before == null) {
+      return get(board.getNo());
     }
 
-    return get(board.getNo());
+    List<BoardAttachmentVO> attaches = new ArrayList<>();
+    if (before.getAttaches() != null) {
+      attaches.addAll(before.getAttaches());
+    }
+    attaches.addAll(added);
+    return before.toBuilder()
+            .title(board.getTitle())
+            .content(board.getContent())
+            .writer(board.getWriter())
+            .updateDate(now)
+            .attaches(attaches)
+            .viewCount(before.getViewCount() + viewCounter.getPending(board.getNo()))
+            .build();
   }
 
 
+
   // 게시글 삭제 서비스
   @Override
   public BoardDTO delete(Long no) {
     log.info("delete...." + no);
 
-    BoardDTO board = get(no);   // 삭제 전 게시글 정보를 미리 조회
-    boardMapper.delete(no);     // 삭제된 행 수 반환
+    BoardDTO board = get(no);   // 삭제 전 게시글 정보를 미리 조회 (응답용, 캐시일 수 있음)
+    transactionTemplate.executeWithoutResult(status -> {
+      // 해제할 blob은 캐시가 아닌 DB의 현재 값을 잠금 읽기로 조회 (그 사이 추가/삭제된 첨부파일 반영)
+      List<String> hashes = boardMapper.getAttachmentBlobHashesForUpdate(no);
+      if (boardMapper.delete(no) == 1) {   // 삭제된 행 수 반환 (첨부파일 행은 CASCADE 삭제)
+        countProvider.decrement();          // 전체 건수 감소
+        blobStore.release(hashes);          // 첨부파일 blob 참조 해제
+      }
+      boardCache.evict(no);                 // 삭제된 게시글 캐시 무효화
+      searchIndex.remove(no);               // 검색 색인에서 제거
+    });
     return board;
   }
 
@@ -107,58 +349,224 @@ public class BoardServiceImpl implements BoardService {
   /* 파일 첨부 관련 메서드 추가 */
 
   // 첨부파일 단일 조회
+  @Transactional(readOnly = true)
   @Override
   public BoardAttachmentVO getAttachment(Long no) {
     return boardMapper.getAttachment(no);
   }
 
+  // 첨부파일 썸네일 경로 조회 (아직 생성되지 않았으면 원본 경로)
+  // - 썸네일이 없거나 파일이 사라졌으면 생성을 다시 예약 (풀이 가득 차서 건너뛴 경우 등)
+  @Transactional(readOnly = true)
+  @Override
+  public String getThumbnailPath(Long no, Integer size) {
+    BoardAttachmentVO attachment = Optional.ofNullable(boardMapper.getAttachment(no))
+            .orElseThrow(NoSuchElementException::new);
+    String thumbnail = boardMapper.getThumbnailPath(no, thumbnails.chooseSize(size));
+    if (thumbnail != null && new File(thumbnail).isFile()) {
+      return thumbnail;
+    }
+    thumbnails.regenerate(attachment);
+    return attachment.getPath();
+  }
+
   // 첨부파일 삭제
   @Override
   public boolean deleteAttachment(Long no) {
-    return boardMapper.deleteAttachment(no) == 1;
+    return transactionTemplate.execute(status -> {
+      BoardAttachmentVO attachment = boardMapper.getAttachment(no);
+      boolean deleted = boardMapper.deleteAttachment(no) == 1;
+      if (attachment != null) {
+        if (deleted && attachment.getBlobHash() != null) {   // 기존 방식(해시 없음)이면 참조 수 없음
+          blobStore.release(List.of(attachment.getBlobHash()));   // 마지막 참조면 커밋 후 파일 삭제
+        }
+        boardCache.evict(attachment.getBno());  // 첨부파일 목록이 바뀐 게시글 캐시 무효화
+      }
+      return deleted;
+    });
   }
 
 
 
   /**
-   * 파일 업로드 처리 (private 메서드)
-   * @param bno 게시글 번호
-   * @param files 업로드할 파일 목록
+   * 트랜잭션 전에 디스크에 준비한 첨부파일
+   * - files: 기존 방식으로 최종 경로에 기록한 파일 (실패하면 삭제)
+   * - blobs: 내용 주소 방식으로 해시를 구한 파일 (커밋되면 해시 경로로 배치, 실패하면 임시 파일 삭제)
    */
-  private void upload(Long bno, List<MultipartFile> files) {
-    for (MultipartFile part : files) {
-      // 빈 파일은 건너뛰기
-      if (part.isEmpty()) continue;
+  private static class Staged {
+    private final List<UploadedFile> files = new ArrayList<>();
+    private final List<BoardBlobStore.Blob> blobs = new ArrayList<>();
+    private final AtomicBoolean settled = new AtomicBoolean();   // 정리(또는 확정) 여부
+
+    // 첨부파일 행으로 변환
+    private List<BoardAttachmentVO> toAttachments(Long bno) {
+      List<BoardAttachmentVO> attaches = new ArrayList<>();
+      files.forEach(file -> attaches.add(BoardAttachmentVO.of(file, bno)));
+      blobs.forEach(blob -> attaches.add(blob.toAttachment(bno)));
+      return attaches;
+    }
+  }
 
+  /**
+   * 1단계: 업로드 파일을 디스크에 준비 (트랜잭션 밖에서 호출)
+   * - 모든 파일을 I/O 스레드 풀에서 동시에 기록 (내용 주소 방식이면 해시 계산, 처음 보는 내용만 임시 기록)
+   * - 일부라도 실패하면 이미 준비한 파일을 정리하고 예외 발생
+   * @param files 업로드할 파일 목록 (null 허용)
+   * @return 준비된 첨부파일
+   */
+  private Staged stage(List<MultipartFile> files) {
+    Staged staged = new Staged();
+    if (files == null) return staged;
+
+    // 빈 파일은 건너뛰기
+    List<MultipartFile> parts = files.stream()
+            .filter(part -> !part.isEmpty())
+            .toList();
+    if (parts.isEmpty()) return staged;
+
+    if (blobStore.isEnabled()) {
+      staged.blobs.addAll(writeAll(parts, part -> {
+        try {
+          return blobStore.stage(part);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }, blobStore::discard));
+    } else {
+      staged.files.addAll(writeAll(parts, part -> {
+        try {
+          return UploadedFile.builder()
+                  .filename(part.getOriginalFilename())
+                  .path(UploadFiles.upload(BASE_DIR, part))
+                  .contentType(part.getContentType())
+                  .size(part.getSize())
+                  .build();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }, written -> UploadFiles.deleteQuietly(written.stream().map(UploadedFile::getPath).toList())));
+    }
+    return staged;
+  }
+
+  // 파일마다 writer를 I/O 스레드 풀에서 동시에 실행하고, 하나라도 실패하면 성공한 결과를 cleanup으로 정리
+  private <T> List<T> writeAll(List<MultipartFile> parts, Function<MultipartFile, T> writer,
+                               Consumer<List<T>> cleanup) {
+    List<CompletableFuture<T>> writes = parts.stream()
+            .map(part -> CompletableFuture.supplyAsync(() -> writer.apply(part), uploadExecutor))
+            .toList();
+
+    // 모든 기록이 끝날 때까지 기다린 뒤 결과 수집
+    List<T> written = new ArrayList<>();
+    RuntimeException failure = null;
+    for (CompletableFuture<T> write : writes) {
       try {
-        // 파일을 서버에 저장
-        String uploadPath = UploadFiles.upload(BASE_DIR, part);
+        written.add(write.join());
+      } catch (CompletionException e) {
+        failure = failure != null ? failure : new RuntimeException(e.getCause());
+      }
+    }
+    if (failure != null) {
+      cleanup.accept(written);  // 일부 실패 - 이미 기록한 파일 정리
+      throw failure;
+    }
+    return written;
+  }
+
+  /**
+   * 2단계: 준비된 첨부파일 행 저장 (트랜잭션 안에서 호출)
+   * - 롤백되면 준비한 파일 삭제, 커밋되면 blob을 해시 경로로 배치한 뒤 썸네일 생성
+   * @param bno 게시글 번호
+   * @param staged stage()로 준비한 첨부파일
+   * @param regDate 첨부파일 등록일시
+   * @return 저장한 첨부파일 행 (생성된 번호 포함)
+   */
+  private List<BoardAttachmentVO> attach(Long bno, Staged staged, Date regDate) {
+    TransactionCallbacks.whenComplete(committed -> settle(staged, committed));
+    if (staged.files.isEmpty() && staged.blobs.isEmpty()) return List.of();
+
+    List<BoardAttachmentVO> attaches = staged.toAttachments(bno);
+    attaches.forEach(attachment -> attachment.setRegDate(regDate));
+    blobStore.register(staged.blobs);
+    boardMapper.createAttachments(attaches);
+    thumbnails.generate(attaches);   // 파일 배치가 끝난 뒤 생성 시작
+    boardCache.evict(bno);           // 첨부파일 목록이 바뀌었으므로 게시글 캐시 무효화
+    return attaches;
+  }
 
-        // 첨부파일 정보를 DB에 저장
-        BoardAttachmentVO attach = BoardAttachmentVO.of(part, bno, uploadPath);
-        boardMapper.createAttachment(attach);
+  // 준비한 파일 확정(커밋) 또는 정리(실패) - 한 번만 처리
+  private void settle(Staged staged, boolean committed) {
+    if (!staged.settled.compareAndSet(false, true) || committed) return;
 
-      } catch (IOException e) {
-        // @Transactional이 감지할 수 있도록 RuntimeException으로 변환
-        throw new RuntimeException(e);
-      }
+    UploadFiles.deleteQuietly(staged.files.stream().map(UploadedFile::getPath).toList());
+    blobStore.discard(staged.blobs);
+  }
+
+
+  // 페이징된 게시글 요약 목록 조회
+  @Transactional(readOnly = true)
+  @Override
+  public Page<BoardSummaryDTO> getPage(PageRequest pageRequest) {
+    // 커서 페이징 요청이면 keyset 방식으로 조회
+    if (pageRequest.isCursorMode()) {
+      return getPageAfter(pageRequest);
     }
+
+    // 1. 페이징된 게시글 요약 목록 조회 (본문 제외)
+    List<BoardSummaryDTO> boards = boardMapper.getSummaryPage(pageRequest);
+
+    // 2. Page 객체 생성
+    //    - 전체 게시글 수는 매번 COUNT(*) 하지 않고 countProvider가 유지하는 값 사용
+    return Page.of(pageRequest, countProvider, boards);
   }
 
+  /**
+   * 커서(keyset) 페이징 처리 (private 메서드)
+   * - 전체 건수를 세지 않고, 마지막 행의 no를 다음 커서로 반환
+   * @param pageRequest after(커서)와 amount가 설정된 요청
+   * @return 다음 커서가 포함된 Page 객체
+   */
+  private Page<BoardSummaryDTO> getPageAfter(PageRequest pageRequest) {
+    // Mapper 호출 전에 해석 - 잘못된 커서는 IllegalArgumentException(400)
+    Long cursor = PageCursor.decode(pageRequest.getAfter());
+    List<BoardSummaryDTO> boards = boardMapper.getSummaryPageAfter(cursor, pageRequest.getAmount());
+
+    // 요청 건수만큼 채워졌으면 다음 페이지가 있을 수 있음
+    String nextCursor = null;
+    if (!boards.isEmpty() && boards.size() == pageRequest.getAmount()) {
+      nextCursor = PageCursor.encode(boards.get(boards.size() - 1).getNo());
+    }
+
+    return Page.ofCursor(pageRequest, boards, nextCursor);
+  }
 
-  // 페이징된 게시글 목록 조회
+  // 게시글 제목/본문 검색
+  @Transactional(readOnly = true)
   @Override
-  public Page<BoardDTO> getPage(PageRequest pageRequest) {
-    // 1. 페이징된 게시글 목록 조회
-    List<BoardVO> boards = boardMapper.getPage(pageRequest);
+  public Page<BoardSummaryDTO> search(String query, PageRequest pageRequest) {
+    log.info("search......" + query);
+
+    // 1. 색인에서 관련도 순 게시글 번호 조회 (DB 접근 없음)
+    List<Long> hits = searchIndex.search(query).stream()
+            .map(InvertedIndex.Hit::getId)
+            .toList();
+
+    // 2. 요청한 페이지 범위의 게시글 번호만 추림
+    int from = Math.min(pageRequest.getOffset(), hits.size());
+    int to = Math.min(from + pageRequest.getAmount(), hits.size());
+    List<Long> pageNos = hits.subList(from, to);
+    if (pageNos.isEmpty()) {
+      return Page.of(pageRequest, hits.size(), List.of());
+    }
 
-    // 2. 전체 게시글 수 조회
-    int totalCount = boardMapper.getTotalCount();
+    // 3. 해당 게시글 요약만 PK로 조회한 뒤 관련도 순서대로 정렬
+    Map<Long, BoardSummaryDTO> summaries = boardMapper.getSummaryList(pageNos).stream()
+            .collect(Collectors.toMap(BoardSummaryDTO::getNo, Function.identity()));
 
-    // 3. VO를 DTO로 변환하고 Page 객체 생성
-    return Page.of(pageRequest, totalCount,
-            boards.stream()
-                    .map(BoardDTO::of)  // VO → DTO 변환
+    return Page.of(pageRequest, hits.size(),
+            pageNos.stream()
+                    .map(summaries::get)
+                    .filter(Objects::nonNull)   // 색인 반영 직후 삭제된 게시글 제외
                     .toList());
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,148 @@
+package org.scoula.board.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.scoula.board.domain.BoardAttachmentVO;
+import org.scoula.board.mapper.BoardMapper;
+import org.scoula.common.util.ImageResizer;
+import org.scoula.common.util.TransactionCallbacks;
+import org.scoula.common.util.UploadFiles;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.IntStream;
+
+/**
+ * 이미지 첨부파일 썸네일 생성기
+ * - 첨부파일이 커밋되면 제한된 백그라운드 풀에서 고정 크기 썸네일(JPEG)을 생성하고 tbl_board_thumbnail에 기록
+ * - 요청 처리와 분리되어 있으므로 업로드 응답 시간에 영향 없음
+ * - 생성 전이거나 풀이 가득 차서 건너뛴 경우 썸네일 조회는 원본으로 대체되고, 그때 다시 생성을 예약함 (regenerate)
+ * - 내용 주소(blob) 방식 첨부파일은 썸네일 파일도 해시로 이름을 붙여, 같은 내용의 첨부파일이 파일 하나를 공유
+ *   (행은 첨부파일마다 기록, 파일은 처음 한 번만 생성)
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class BoardThumbnailGenerator {
+
+  static final String THUMBNAIL_DIR = "c:/upload/board/thumbnails";
+
+  private final BoardMapper boardMapper;
+
+  @Qualifier("thumbnailExecutor")
+  private final Executor thumbnailExecutor;   // 썸네일 생성 전용 풀 (크기/큐 제한)
+
+  // 생성할 썸네일 크기 (가로/세로 최대 px, 오름차순)
+  @Value("${board.thumbnail.sizes:160,480}")
+  private int[] sizes;
+
+  // 생성을 예약했거나 생성 중인 첨부파일 번호 (같은 첨부파일을 중복 예약하지 않음)
+  private final Set<Long> scheduled = ConcurrentHashMap.newKeySet();
+
+  // 같은 썸네일 파일을 동시에 만들지 않도록 파일 이름별로 나눈 잠금
+  private final Object[] fileLocks = IntStream.range(0, 64).mapToObj(i -> new Object()).toArray();
+
+  /**
+   * 요청 크기에 맞는 썸네일 크기 선택
+   * @param size 요청 크기 (null이면 가장 작은 크기)
+   * @return 요청 크기 이상인 가장 작은 크기 (없으면 가장 큰 크기)
+   */
+  public int chooseSize(Integer size) {
+    int[] sorted = sizes.clone();
+    Arrays.sort(sorted);
+    if (size == null) {
+      return sorted[0];
+    }
+    for (int candidate : sorted) {
+      if (candidate >= size) return candidate;
+    }
+    return sorted[sorted.length - 1];
+  }
+
+  /**
+   * 이미지 첨부파일의 썸네일 생성 예약 (트랜잭션 중이면 커밋 이후)
+   * - 트랜잭션 종료 콜백은 등록 순서대로 실행되므로, 먼저 등록된 blob 파일 배치가 끝난 뒤 생성이 시작됨
+   * @param attaches 저장된 첨부파일 (no가 설정되어 있어야 함)
+   */
+  public void generate(List<BoardAttachmentVO> attaches) {
+    List<BoardAttachmentVO> images = attaches.stream()
+            .filter(attach -> attach.getNo() != null && isImage(attach.getContentType()))
+            .toList();
+    if (images.isEmpty()) return;
+
+    TransactionCallbacks.whenComplete(committed -> {
+      if (committed) {
+        images.forEach(this::submit);
+      }
+    });
+  }
+
+  /**
+   * 썸네일이 없거나 파일이 사라진 첨부파일의 생성 다시 예약 (썸네일 조회 시 호출)
+   * - 풀이 가득 차서 건너뛰었거나 생성 전에 재시작된 경우를 조회 시점에 복구
+   * @param attach 첨부파일 (이미지가 아니면 무시)
+   */
+  public void regenerate(BoardAttachmentVO attach) {
+    if (attach.getNo() != null && isImage(attach.getContentType())) {
+      submit(attach);
+    }
+  }
+
+  private void submit(BoardAttachmentVO attach) {
+    if (!scheduled.add(attach.getNo())) return;   // 이미 예약됨
+    try {
+      thumbnailExecutor.execute(() -> {
+        try {
+          create(attach);
+        } finally {
+          scheduled.remove(attach.getNo());
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      // 풀이 가득 참 - 이 첨부파일은 원본으로 대체 제공 (다음 조회 시 다시 예약)
+      scheduled.remove(attach.getNo());
+      log.warn("썸네일 생성 건너뜀 (대기열 가득 참): " + attach.getNo());
+    }
+  }
+
+  // 모든 크기의 썸네일 생성 및 기록 (같은 내용의 썸네일 파일이 이미 있으면 행만 기록)
+  private void create(BoardAttachmentVO attach) {
+    File src = new File(attach.getPath());
+    String name = attach.getBlobHash() != null ? attach.getBlobHash() : String.valueOf(attach.getNo());
+    for (int size : sizes) {
+      File dest = new File(THUMBNAIL_DIR, name + "-" + size + ".jpg");
+      boolean created = false;
+      try {
+        synchronized (fileLocks[Math.floorMod(dest.getName().hashCode(), fileLocks.length)]) {
+          if (!dest.isFile()) {
+            if (!ImageResizer.resize(src, dest, size, "jpg")) {
+              log.info("썸네일 생성 불가 (읽을 수 없는 이미지): " + attach.getNo());
+              return;
+            }
+            created = true;
+          }
+        }
+        boardMapper.createThumbnail(attach.getNo(), size, dest.getPath());
+      } catch (Exception e) {
+        // 생성 도중 첨부파일이 삭제된 경우 등 - 이번에 만든 파일만 정리 (공유 중인 파일은 유지)
+        if (created) {
+          UploadFiles.deleteQuietly(List.of(dest.getPath()));
+        }
+        log.warn("썸네일 생성 실패: " + attach.getNo() + " - " + e.getMessage());
+        return;
+      }
+    }
+  }
+
+  private static boolean isImage(String contentType) {
+    return contentType != null && contentType.startsWith("image/");
+  }
+}
@@ -0,0 +1,35 @@
+package org.scoula.board.service;
+
+import lombok.RequiredArgsConstructor;
+import org.scoula.board.mapper.BoardMapper;
+import org.scoula.common.util.ViewCounter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 게시글 조회수 카운터
+ * - 모은 조회수를 tbl_board_view에 일괄 upsert
+ * - 기록한 조회수는 상세 캐시의 값에도 더하여 캐시와 DB가 같은 조회수를 유지
+ *   (캐시에서 제거하면 가장 많이 조회되는 글이 기록 주기마다 첨부파일 조인을 다시 실행하게 됨)
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardViewCounter extends ViewCounter {
+
+  private final BoardMapper boardMapper;
+  private final BoardDetailCache boardCache;
+
+  @Scheduled(fixedDelayString = "${view.flush-interval:10000}")
+  public void run() {
+    flush();
+  }
+
+  @Override
+  protected void write(Map<Long, Long> counts) {
+    boardMapper.addViewCounts(counts);
+    counts.forEach((no, count) -> boardCache.update(no,
+            board -> board.toBuilder().viewCount(board.getViewCount() + count).build()));
+  }
+}
@@ -0,0 +1,22 @@
+package org.scoula.common.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 캐시 통계 스냅샷
+ */
+@Data
+@AllArgsConstructor
+public class CacheStats {
+    private long hits;        // 캐시 적중 횟수
+    private long misses;      // 캐시 미스 횟수 (만료 포함)
+    private long evictions;   // 크기 초과/만료로 제거된 항목 수
+    private int size;         // 현재 항목 수
+
+    // 적중률 (요청이 없으면 0)
+    public double getHitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,267 @@
+package org.scoula.common.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 전체 크기(바이트) 제한을 지원하는 디스크 LRU 캐시
+ * - 키마다 파일 하나를 디렉토리에 저장하고, 전체 크기를 넘으면 가장 오래 사용되지 않은 파일부터 삭제
+ * - 같은 키를 동시에 처음 요청하면 한 스레드만 만들고 나머지는 그 결과를 기다림
+ * - 시작 시 디렉토리의 기존 파일을 수정 시각 순으로 다시 등록하므로 재시작해도 캐시가 유지됨
+ * - open()으로 받은 파일은 close()할 때까지 삭제 대상에서 제외 (조회 후 전송 전에 삭제되어 404가 되지 않도록)
+ * - 삭제에 실패한 파일(Windows에서 전송 중인 파일 등)은 전체 크기에 계속 포함하고 다음 삭제 때 다시 시도
+ *   (고정/삭제 실패한 파일 때문에 상한을 잠시 넘을 수 있으나 실제 디스크 사용량과 전체 크기는 항상 일치)
+ *
+ * 사용 예)
+ *   try (DiskLruCache.Handle handle = cache.open("12-320.jpg", dest -> ImageResizer.resize(src, dest, 320, "jpg"))) {
+ *     send(handle.getFile());
+ *   }
+ */
+public class DiskLruCache {
+
+  /**
+   * 캐시 파일 생성
+   */
+  @FunctionalInterface
+  public interface Loader {
+    /**
+     * @param dest 만들 파일 (같은 디렉토리 안에서 임시 파일 → 이동으로 기록해야 함)
+     * @return 만들었으면 true, 만들 수 없는 경우 false
+     */
+    boolean load(File dest) throws IOException;
+  }
+
+  private final File dir;
+  private final long maxBytes;
+
+  // accessOrder=true: 조회할 때마다 가장 최근 위치로 이동 (키 → 파일 크기)
+  private final LinkedHashMap<String, Long> files = new LinkedHashMap<>(16, 0.75f, true);
+  private long totalBytes;   // 삭제에 실패한 파일 포함
+
+  // 사용 중인 키 → open() 횟수 (삭제하지 않음)
+  private final Map<String, Integer> pins = new HashMap<>();
+  // 목록에서 제거했지만 삭제에 실패한 키 → 파일 크기 (다음 삭제 때 다시 시도)
+  private final Map<String, Long> undeleted = new HashMap<>();
+
+  // 만드는 중인 키 (동시 요청 합치기)
+  private final Map<String, CompletableFuture<File>> loading = new ConcurrentHashMap<>();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * @param dir 캐시 디렉토리 (다른 파일을 두지 않아야 함)
+   * @param maxBytes 전체 파일 크기 상한
+   */
+  public DiskLruCache(File dir, long maxBytes) {
+    if (maxBytes <= 0) {
+      throw new IllegalArgumentException("maxBytes는 0보다 커야 합니다: " + maxBytes);
+    }
+    this.dir = dir;
+    this.maxBytes = maxBytes;
+
+    dir.mkdirs();
+    File[] existing = dir.listFiles(File::isFile);
+    if (existing != null) {
+      Arrays.sort(existing, Comparator.comparingLong(File::lastModified));   // 오래된 것부터 등록
+      for (File file : existing) {
+        if (file.getName().endsWith(".part")) {
+          file.delete();   // 만들다 중단된 임시 파일
+          continue;
+        }
+        files.put(file.getName(), file.length());
+        totalBytes += file.length();
+      }
+      synchronized (files) {
+        evict(null);
+      }
+    }
+  }
+
+  /**
+   * 캐시 파일 조회 (없으면 만들어 등록)
+   * @param key 파일 이름으로 사용할 키
+   * @param loader 없을 때 파일을 만드는 함수
+   * @return 캐시 파일 (loader가 만들 수 없다고 하면 null)
+   * @throws IOException 만드는 중 오류 발생 시
+   */
+  public File get(String key, Loader loader) throws IOException {
+    return lookup(key, loader, false);
+  }
+
+  /**
+   * 캐시 파일을 사용 중으로 표시하여 조회 (없으면 만들어 등록)
+   * - 반환한 Handle을 close()할 때까지 파일이 삭제되지 않음 (파일 전송 등에 사용)
+   * @return 사용 중인 캐시 파일 (loader가 만들 수 없다고 하면 null)
+   * @throws IOException 만드는 중 오류 발생 시
+   */
+  public Handle open(String key, Loader loader) throws IOException {
+    File file = lookup(key, loader, true);
+    return file != null ? new Handle(key, file) : null;
+  }
+
+  /**
+   * 사용 중인 캐시 파일 (close 시 사용 중 표시 해제)
+   */
+  public final class Handle implements AutoCloseable {
+    private final String key;
+    private final File file;
+    private boolean closed;
+
+    private Handle(String key, File file) {
+      this.key = key;
+      this.file = file;
+    }
+
+    public File getFile() {
+      return file;
+    }
+
+    @Override
+    public void close() {
+      if (closed) return;
+      closed = true;
+      unpin(key);
+    }
+  }
+
+  // pin=true면 반환하기 전에 사용 중으로 표시
+  private File lookup(String key, Loader loader, boolean pin) throws IOException {
+    File file = new File(dir, key);
+    if (acquire(key, file, pin)) {
+      hits.increment();
+      return file;
+    }
+    misses.increment();
+
+    CompletableFuture<File> created = new CompletableFuture<>();
+    CompletableFuture<File> running = loading.putIfAbsent(key, created);
+    if (running != null) {
+      // 다른 스레드가 만드는 중 - 결과 공유 (사용 중 표시 전에 삭제되었으면 다시 조회)
+      File result = await(running);
+      return result == null || acquire(key, file, pin) ? result : lookup(key, loader, pin);
+    }
+
+    try {
+      // 확인한 직후 다른 스레드가 만들기를 끝냈을 수 있으므로 다시 확인
+      File result = acquire(key, file, pin) ? file
+              : loader.load(file) ? add(key, file, pin) : null;
+      created.complete(result);
+      return result;
+    } catch (IOException | RuntimeException e) {
+      created.completeExceptionally(e);
+      throw e;
+    } finally {
+      loading.remove(key);
+    }
+  }
+
+  /**
+   * 캐시 통계 (size: 파일 수)
+   */
+  public CacheStats getStats() {
+    synchronized (files) {
+      return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), files.size());
+    }
+  }
+
+  /**
+   * 현재 전체 파일 크기
+   */
+  public long getTotalBytes() {
+    synchronized (files) {
+      return totalBytes;
+    }
+  }
+
+  // 등록된 파일이면 조회 순서 갱신 (pin=true면 사용 중으로 표시)
+  private boolean acquire(String key, File file, boolean pin) {
+    synchronized (files) {
+      if (files.get(key) == null || !file.isFile()) {
+        return false;
+      }
+      if (pin) {
+        pins.merge(key, 1, Integer::sum);
+      }
+      return true;
+    }
+  }
+
+  // 사용 중 표시 해제 후 그동안 미뤄진 삭제 수행
+  private void unpin(String key) {
+    synchronized (files) {
+      pins.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+      evict(null);
+    }
+  }
+
+  // 만든 파일 등록 후 상한을 넘는 만큼 오래된 파일 삭제
+  private File add(String key, File file, boolean pin) {
+    synchronized (files) {
+      Long previous = files.put(key, file.length());
+      Long stale = undeleted.remove(key);   // 삭제하지 못했던 같은 이름의 파일은 새 파일로 대체됨
+      totalBytes += file.length() - (previous != null ? previous : 0) - (stale != null ? stale : 0);
+      if (pin) {
+        pins.merge(key, 1, Integer::sum);
+      }
+      evict(key);
+      return file;
+    }
+  }
+
+  // files 락 안에서 호출 (keep: 방금 등록한 파일, 상한을 넘어도 유지)
+  // - 사용 중인 파일은 건너뛰고, 삭제에 실패한 파일은 크기를 계속 포함하여 다음에 다시 시도
+  private void evict(String keep) {
+    undeleted.entrySet().removeIf(entry -> {
+      if (!delete(entry.getKey())) return false;
+      totalBytes -= entry.getValue();
+      return true;
+    });
+
+    Iterator<Map.Entry<String, Long>> it = files.entrySet().iterator();
+    while (totalBytes > maxBytes && it.hasNext()) {
+      Map.Entry<String, Long> eldest = it.next();
+      if (eldest.getKey().equals(keep) || pins.containsKey(eldest.getKey())) {
+        continue;
+      }
+      it.remove();
+      evictions.increment();
+      if (delete(eldest.getKey())) {
+        totalBytes -= eldest.getValue();
+      } else {
+        undeleted.put(eldest.getKey(), eldest.getValue());
+      }
+    }
+  }
+
+  private boolean delete(String key) {
+    try {
+      Files.deleteIfExists(new File(dir, key).toPath());
+      return true;
+    } catch (IOException e) {
+      return false;   // Windows에서 다른 스레드가 전송 중인 파일 등
+    }
+  }
+
+  private static File await(CompletableFuture<File> running) throws IOException {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof IOException) throw (IOException) e.getCause();
+      if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+      throw new IOException(e.getCause());
+    }
+  }
+}
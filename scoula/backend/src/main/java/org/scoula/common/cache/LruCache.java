@@ -0,0 +1,209 @@
+package org.scoula.common.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * 크기 제한 + TTL을 지원하는 프로세스 내 LRU 캐시
+ * - 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거
+ * - TTL이 지난 항목은 조회 시점에 제거하고 미스로 처리
+ * - 적중/미스/제거 횟수를 집계
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class LruCache<K, V> {
+
+  private final int maxSize;
+  private final long ttlMillis;
+
+  // accessOrder=true: 조회할 때마다 가장 최근 위치로 이동
+  private final LinkedHashMap<K, Entry<V>> map;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  // 무효화가 일어날 때마다 증가 - 로딩 중 무효화된 값이 캐시에 들어가지 않도록 확인용
+  private final AtomicLong invalidations = new AtomicLong();
+
+  /**
+   * @param maxSize 최대 항목 수
+   * @param ttlMillis 항목 유효 시간 (0 이하면 만료 없음)
+   */
+  public LruCache(int maxSize, long ttlMillis) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("maxSize는 0보다 커야 합니다: " + maxSize);
+    }
+    this.maxSize = maxSize;
+    this.ttlMillis = ttlMillis;
+    this.map = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+        if (size() > LruCache.this.maxSize) {
+          evictions.increment();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * 캐시 조회
+   * @return 캐시된 값 (없거나 만료되었으면 null)
+   */
+  public V get(K key) {
+    synchronized (map) {
+      Entry<V> entry = map.get(key);
+      if (entry != null && entry.isExpired()) {
+        map.remove(key);
+        evictions.increment();
+        entry = null;
+      }
+      if (entry == null) {
+        misses.increment();
+        return null;
+      }
+      hits.increment();
+      return entry.value;
+    }
+  }
+
+  /**
+   * Read-through 조회: 캐시에 없으면 loader로 읽어 저장
+   * - loader는 락 밖에서 실행되므로 DB 조회 중 다른 키 조회가 막히지 않음
+   * - 로딩 도중 무효화가 있었다면 (오래된 값일 수 있으므로) 저장하지 않음
+   * @param loader 캐시 미스 시 값을 읽어오는 함수 (null 반환 시 저장하지 않음)
+   */
+  public V get(K key, Function<K, V> loader) {
+    V value = get(key);
+    if (value != null) {
+      return value;
+    }
+
+    long version = invalidations.get();
+    value = loader.apply(key);
+    if (value != null) {
+      synchronized (map) {
+        if (version == invalidations.get()) {
+          map.put(key, new Entry<>(value, expiresAt()));
+        }
+      }
+    }
+    return value;
+  }
+
+  /**
+   * 여러 키 Read-through 조회: 캐시에 없는 키만 모아 loader로 한 번에 읽어 저장
+   * - 단건 get(key, loader)와 같이 로딩 도중 무효화가 있었다면 저장하지 않음
+   * @param keys 조회할 키 (중복 허용)
+   * @param loader 캐시에 없는 키 목록 → 읽어온 값 (없는 키는 결과에서 빠짐)
+   * @return 키 → 값 (캐시와 loader 어디에도 없는 키는 포함하지 않음)
+   */
+  public Map<K, V> getAll(Collection<K> keys, Function<List<K>, Map<K, V>> loader) {
+    Map<K, V> values = new HashMap<>();
+    List<K> missing = new ArrayList<>();
+    for (K key : new LinkedHashSet<>(keys)) {
+      V value = get(key);
+      if (value != null) {
+        values.put(key, value);
+      } else {
+        missing.add(key);
+      }
+    }
+    if (missing.isEmpty()) {
+      return values;
+    }
+
+    long version = invalidations.get();
+    Map<K, V> loaded = loader.apply(missing);
+    synchronized (map) {
+      if (version == invalidations.get()) {
+        loaded.forEach((key, value) -> map.put(key, new Entry<>(value, expiresAt())));
+      }
+    }
+    values.putAll(loaded);
+    return values;
+  }
+
+  // 캐시 저장
+  public void put(K key, V value) {
+    synchronized (map) {
+      map.put(key, new Entry<>(value, expiresAt()));
+    }
+  }
+
+  /**
+   * 캐시된 값을 제거하지 않고 갱신 (만료 시각은 그대로)
+   * - 로딩 중인 값은 갱신 전 상태를 읽었을 수 있으므로 무효화처럼 저장되지 않게 함
+   * @param updater 현재 값 → 새 값
+   * @return 갱신했으면 true (없거나 만료되었으면 false)
+   */
+  public boolean update(K key, UnaryOperator<V> updater) {
+    synchronized (map) {
+      invalidations.incrementAndGet();
+      Entry<V> entry = map.get(key);
+      if (entry == null || entry.isExpired()) {
+        return false;
+      }
+      map.put(key, new Entry<>(updater.apply(entry.value), entry.expiresAt));
+      return true;
+    }
+  }
+
+  // 특정 항목 무효화
+  public void invalidate(K key) {
+    synchronized (map) {
+      invalidations.incrementAndGet();
+      map.remove(key);
+    }
+  }
+
+  // 전체 무효화
+  public void clear() {
+    synchronized (map) {
+      invalidations.incrementAndGet();
+      map.clear();
+    }
+  }
+
+  public int size() {
+    synchronized (map) {
+      return map.size();
+    }
+  }
+
+  // 통계 스냅샷
+  public CacheStats getStats() {
+    return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size());
+  }
+
+  private long expiresAt() {
+    return ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : Long.MAX_VALUE;
+  }
+
+  // 캐시 항목 (값 + 만료 시각)
+  private static class Entry<V> {
+    final V value;
+    final long expiresAt;
+
+    Entry(V value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+
+    boolean isExpired() {
+      return System.currentTimeMillis() > expiresAt;
+    }
+  }
+}
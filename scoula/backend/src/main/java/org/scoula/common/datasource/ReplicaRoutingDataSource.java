@@ -0,0 +1,199 @@
+package org.scoula.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.Data;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기/쓰기 분리 DataSource
+ * - 읽기 전용 트랜잭션(@Transactional(readOnly = true))의 연결은 복제본(replica)으로, 나머지는 원본(primary)으로 보냄
+ * - 트랜잭션 밖의 호출은 읽기인지 쓰기인지 알 수 없으므로 원본으로 보냄
+ * - 복제본이 응답하지 않거나 복제 지연이 허용치를 넘으면 읽기 전용 트랜잭션도 원본으로 보냄
+ *
+ * 주의)
+ *   트랜잭션 매니저는 트랜잭션 속성을 설정하기 전에 연결을 얻으므로,
+ *   반드시 LazyConnectionDataSourceProxy로 감싸 첫 SQL 실행 시점에 대상이 결정되도록 해야 함
+ */
+@Log4j2
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  public enum Route { PRIMARY, REPLICA }
+
+  private final Map<Route, DataSource> targets = new EnumMap<>(Route.class);
+  private final String lagQuery;       // 복제 지연(초) 조회 쿼리
+  private final long maxLagSeconds;    // 허용 복제 지연
+
+  // 복제본 상태 (주기 점검으로 갱신)
+  private volatile boolean replicaAvailable = true;
+  private volatile long replicaLagSeconds;
+  private volatile String checkError;   // 마지막 점검 실패 원인 (성공하면 null, 같은 오류는 한 번만 error 로그)
+
+  // 대상별 연결 요청 수, 복제본 대신 원본으로 보낸 읽기 수
+  private final Map<Route, LongAdder> routed = new EnumMap<>(Route.class);
+  private final LongAdder fallbacks = new LongAdder();
+
+  /**
+   * @param primary 원본 DataSource
+   * @param replica 복제본 DataSource
+   * @param lagQuery 복제본에서 실행할 복제 지연 조회 쿼리 (예: SHOW REPLICA STATUS)
+   * @param maxLagSeconds 이 시간(초)보다 지연되면 복제본을 사용하지 않음
+   */
+  public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                  String lagQuery, long maxLagSeconds) {
+    this.lagQuery = lagQuery;
+    this.maxLagSeconds = maxLagSeconds;
+    targets.put(Route.PRIMARY, primary);
+    targets.put(Route.REPLICA, replica);
+    for (Route route : Route.values()) {
+      routed.put(route, new LongAdder());
+    }
+
+    setTargetDataSources(new HashMap<>(targets));
+    setDefaultTargetDataSource(primary);
+    setLenientFallback(false);
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    super.afterPropertiesSet();
+    checkReplica();   // 시작 시 한 번 점검 (복제본이 없으면 원본으로 시작)
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    Route route = Route.PRIMARY;
+    if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      if (isReplicaUsable()) {
+        route = Route.REPLICA;
+      } else {
+        fallbacks.increment();
+      }
+    }
+    routed.get(route).increment();
+    return route;
+  }
+
+  public boolean isReplicaUsable() {
+    return replicaAvailable && replicaLagSeconds <= maxLagSeconds;
+  }
+
+  /**
+   * 복제본 상태 점검
+   * - 조회 결과가 없으면 복제 설정이 없는 서버(원본과 같은 DB)로 보고 지연 0
+   * - 지연 값이 NULL(복제 중지)이거나 연결/쿼리에 실패하면 사용 불가
+   */
+  @Scheduled(fixedDelayString = "${jdbc.replica.lag-check-interval:5000}",
+             initialDelayString = "${jdbc.replica.lag-check-interval:5000}")
+  public void checkReplica() {
+    boolean wasUsable = isReplicaUsable();
+    try (Connection con = targets.get(Route.REPLICA).getConnection();
+         Statement stmt = con.createStatement();
+         ResultSet rs = stmt.executeQuery(lagQuery)) {
+      if (!rs.next()) {
+        replicaLagSeconds = 0;
+        replicaAvailable = true;
+      } else {
+        Object lag = rs.getObject(lagColumn(rs.getMetaData()));
+        replicaAvailable = lag != null;
+        replicaLagSeconds = lag != null ? Long.parseLong(lag.toString()) : 0;
+      }
+      checkError = null;
+    } catch (SQLException | RuntimeException e) {
+      replicaAvailable = false;
+      String error = String.valueOf(e.getMessage());
+      if (!error.equals(checkError)) {
+        log.error("복제 지연 점검 실패 - 복제본이 회복될 때까지 읽기 전용 트랜잭션도 원본으로 보냄 (쿼리: "
+                + lagQuery + "): " + error + (isAccessDenied(e)
+                ? " - SHOW REPLICA STATUS는 REPLICATION CLIENT 권한이 필요합니다."
+                  + " 복제본 계정에 권한을 주거나 jdbc.replica.lag-query를 권한 없이 실행할 수 있는 쿼리로 바꾸세요."
+                : ""));
+      } else {
+        log.debug("복제 지연 점검 실패 (계속): " + error);
+      }
+      checkError = error;
+    }
+
+    if (wasUsable != isReplicaUsable()) {
+      log.info("복제본 " + (isReplicaUsable() ? "사용 재개" : "사용 중지")
+              + " (available=" + replicaAvailable + ", lag=" + replicaLagSeconds + "s)");
+    }
+    log.debug("DataSource 메트릭: " + getPoolMetrics());
+  }
+
+  // 권한 부족 오류인지 (MySQL 1227: Access denied; you need the ... privilege)
+  private static boolean isAccessDenied(Exception e) {
+    return e instanceof SQLException && ((SQLException) e).getErrorCode() == 1227;
+  }
+
+  // MySQL 복제 상태의 지연 컬럼 (버전에 따라 이름이 다름), 없으면 첫 번째 컬럼
+  private static int lagColumn(ResultSetMetaData meta) throws SQLException {
+    for (int i = 1; i <= meta.getColumnCount(); i++) {
+      String label = meta.getColumnLabel(i);
+      if ("Seconds_Behind_Source".equalsIgnoreCase(label) || "Seconds_Behind_Master".equalsIgnoreCase(label)) {
+        return i;
+      }
+    }
+    return 1;
+  }
+
+  public long getReplicaLagSeconds() {
+    return replicaLagSeconds;
+  }
+
+  public long getFallbackCount() {
+    return fallbacks.sum();
+  }
+
+  /**
+   * 대상별 커넥션 풀 메트릭
+   */
+  public List<PoolMetrics> getPoolMetrics() {
+    List<PoolMetrics> metrics = new ArrayList<>();
+    for (Route route : Route.values()) {
+      PoolMetrics pool = new PoolMetrics();
+      pool.setRoute(route);
+      pool.setRouted(routed.get(route).sum());
+      if (targets.get(route) instanceof HikariDataSource) {
+        HikariPoolMXBean bean = ((HikariDataSource) targets.get(route)).getHikariPoolMXBean();
+        if (bean != null) {
+          pool.setActive(bean.getActiveConnections());
+          pool.setIdle(bean.getIdleConnections());
+          pool.setTotal(bean.getTotalConnections());
+          pool.setWaiting(bean.getThreadsAwaitingConnection());
+        }
+      }
+      metrics.add(pool);
+    }
+    return metrics;
+  }
+
+  /**
+   * 커넥션 풀 메트릭
+   */
+  @Data
+  public static class PoolMetrics {
+    private Route route;      // 대상
+    private long routed;      // 이 대상으로 보낸 연결 요청 수
+    private int active;       // 사용 중인 연결 수
+    private int idle;         // 유휴 연결 수
+    private int total;        // 전체 연결 수
+    private int waiting;      // 연결을 기다리는 스레드 수
+  }
+}
@@ -19,11 +19,23 @@ public class Page<T> {
 
     private List<T> list;       // 페이징된 데이터 목록
 
+    private String nextCursor;  // 다음 페이지 커서 (커서 페이징, 마지막 페이지면 null)
+
     // 정적 팩토리 메서드 - 페이지 객체 생성
     public static <T> Page of(PageRequest pageRequest, int totalCount, List<T> list) {
         // 전체 페이지 수 계산 (올림 처리)
         int totalPage = (int)Math.ceil((double)totalCount / pageRequest.getAmount());
-        return new Page(totalCount, totalPage, pageRequest, list);
+        return new Page(totalCount, totalPage, pageRequest, list, null);
+    }
+
+    // 정적 팩토리 메서드 - 건수 제공자로부터 전체 건수를 얻어 페이지 객체 생성
+    public static <T> Page of(PageRequest pageRequest, TotalCountProvider countProvider, List<T> list) {
+        return of(pageRequest, countProvider.getTotalCount(), list);
+    }
+
+    // 정적 팩토리 메서드 - 커서 페이지 객체 생성 (전체 건수는 계산하지 않음)
+    public static <T> Page ofCursor(PageRequest pageRequest, List<T> list, String nextCursor) {
+        return new Page(0, 0, pageRequest, list, nextCursor);
     }
 
     // 현재 페이지 번호 반환
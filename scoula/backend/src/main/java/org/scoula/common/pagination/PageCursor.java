@@ -0,0 +1,46 @@
+package org.scoula.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 페이징용 opaque 커서 인코더/디코더
+ * - 클라이언트는 커서 값을 해석하지 않고 그대로 다음 요청의 after 파라미터로 전달
+ * - 내부적으로는 마지막으로 조회된 행의 PK를 Base64(URL-safe)로 감싼 문자열
+ */
+public class PageCursor {
+  private static final String PREFIX = "k:";
+
+  /**
+   * PK 값을 커서 문자열로 인코딩
+   * @param key 마지막으로 조회된 행의 PK
+   * @return opaque 커서 문자열
+   */
+  public static String encode(Long key) {
+    if (key == null) return null;
+    byte[] bytes = (PREFIX + key).getBytes(StandardCharsets.UTF_8);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+  }
+
+  /**
+   * 커서 문자열을 PK 값으로 디코딩
+   * @param cursor opaque 커서 문자열 (빈 문자열이면 첫 페이지)
+   * @return PK 값 (첫 페이지면 Long.MAX_VALUE)
+   * @throws IllegalArgumentException 잘못된 형식의 커서인 경우
+   */
+  public static Long decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return Long.MAX_VALUE;     // 첫 페이지: 모든 PK보다 큰 값
+    }
+
+    try {
+      String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      if (!value.startsWith(PREFIX)) {
+        throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+      }
+      return Long.parseLong(value.substring(PREFIX.length()));
+    } catch (IllegalArgumentException e) {   // NumberFormatException 포함
+      throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+    }
+  }
+}
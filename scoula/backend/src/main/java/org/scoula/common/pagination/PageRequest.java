@@ -9,6 +9,7 @@ import lombok.AccessLevel;
 public class PageRequest {
     private int page;   // 요청 페이지 번호 (1부터 시작)
     private int amount; // 한 페이지당 데이터 건수
+    private String after; // 커서 페이징: 이전 응답의 nextCursor (null이면 offset 페이징)
 
     // 기본 생성자: 첫 페이지, 10개씩 표시
     public PageRequest() {
@@ -18,11 +19,23 @@ public class PageRequest {
 
     // 정적 팩토리 메서드
     public static PageRequest of(int page, int amount) {
-        return new PageRequest(page, amount);
+        return new PageRequest(page, amount, null);
+    }
+
+    // 커서 페이징용 정적 팩토리 메서드 (after가 빈 문자열이면 첫 페이지)
+    public static PageRequest ofCursor(String after, int amount) {
+        return new PageRequest(1, amount, after);
     }
 
     // MyBatis LIMIT 절에 사용할 offset 값 계산
     public int getOffset() {
         return (page - 1) * amount;
     }
-}
\ No newline at end of file
+
+    // 커서 페이징 모드 여부 (?after= 파라미터가 전달된 경우)
+    // - 커서 해석(PageCursor.decode)은 서비스에서 Mapper 호출 전에 수행
+    //   (getter에서 하면 MyBatis 파라미터 바인딩 중 예외가 감싸져 400이 아닌 500이 됨)
+    public boolean isCursorMode() {
+        return after != null;
+    }
+}
@@ -0,0 +1,13 @@
+package org.scoula.common.pagination;
+
+/**
+ * 페이지 전체 건수 제공자
+ * - 매 요청마다 COUNT(*)를 실행하지 않고, 미리 유지/캐시된 건수를 제공하기 위한 인터페이스
+ */
+public interface TotalCountProvider {
+    /**
+     * 전체 데이터 건수
+     * @return 현재 알고 있는 전체 건수 (추정치일 수 있음)
+     */
+    int getTotalCount();
+}
@@ -0,0 +1,139 @@
+package org.scoula.common.ranking;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간(1시간) 단위 버킷 카운터 + 상위 K개 선택
+ * - 기록: 현재 시간 버킷의 id별 LongAdder 증가 (O(1), 락 없음)
+ * - 조회: 최근 N시간 버킷을 합산한 뒤 크기 K의 최소 힙으로 상위 K개 선택 (O(n log K))
+ * - 보관 시간이 지난 버킷은 expire()에서 제거
+ * - snapshot()/restore()로 버킷 내용을 저장/복원 (재시작 시 순위 유지)
+ */
+public class HourlyCounter {
+
+  private static final long HOUR_MILLIS = 60 * 60 * 1000L;
+
+  // 순위 비교: 횟수 내림차순, 같으면 id 내림차순(최신 글 우선)
+  private static final Comparator<Entry> RANK = Comparator.comparingLong(Entry::getCount)
+          .thenComparingLong(Entry::getId)
+          .reversed();
+
+  private final int retentionHours;   // 보관할 시간 버킷 수
+  private final LongSupplier clock;   // 현재 시각(ms)
+
+  // 시간(epoch 기준 시) → (id → 횟수)
+  private final ConcurrentHashMap<Long, ConcurrentHashMap<Long, LongAdder>> buckets = new ConcurrentHashMap<>();
+
+  public HourlyCounter(int retentionHours) {
+    this(retentionHours, System::currentTimeMillis);
+  }
+
+  public HourlyCounter(int retentionHours, LongSupplier clock) {
+    this.retentionHours = retentionHours;
+    this.clock = clock;
+  }
+
+  /**
+   * 현재 시간 버킷에 1 기록
+   * @param id 대상 번호
+   */
+  public void record(Long id) {
+    buckets.computeIfAbsent(currentHour(), hour -> new ConcurrentHashMap<>())
+            .computeIfAbsent(id, key -> new LongAdder())
+            .increment();
+  }
+
+  /**
+   * 최근 hours시간(현재 시간 포함) 동안 많이 기록된 상위 k개
+   * @param hours 집계 시간 (1 ~ 보관 시간)
+   * @param k 최대 개수
+   * @return 횟수 내림차순 목록
+   */
+  public List<Entry> top(int hours, int k) {
+    if (hours < 1 || hours > retentionHours) {
+      throw new IllegalArgumentException("집계 시간은 1 ~ " + retentionHours + "시간이어야 합니다: " + hours);
+    }
+
+    // 1. 기간 내 버킷 합산
+    long from = currentHour() - hours + 1;
+    Map<Long, Long> sums = new HashMap<>();
+    buckets.forEach((hour, counts) -> {
+      if (hour >= from) {
+        counts.forEach((id, count) -> sums.merge(id, count.sum(), Long::sum));
+      }
+    });
+
+    // 2. 크기 k의 최소 힙 유지 (가장 약한 항목이 맨 앞)
+    PriorityQueue<Entry> heap = new PriorityQueue<>(k + 1, RANK.reversed());
+    sums.forEach((id, count) -> {
+      heap.offer(new Entry(id, count));
+      if (heap.size() > k) {
+        heap.poll();
+      }
+    });
+
+    List<Entry> top = new ArrayList<>(heap);
+    top.sort(RANK);
+    return top;
+  }
+
+  /**
+   * 보관 시간이 지난 버킷 제거
+   */
+  public void expire() {
+    long oldest = currentHour() - retentionHours + 1;
+    buckets.keySet().removeIf(hour -> hour < oldest);
+  }
+
+  /**
+   * 버킷 내용 복사 (저장용)
+   * @return 시간 → (id → 횟수)
+   */
+  public Map<Long, Map<Long, Long>> snapshot() {
+    Map<Long, Map<Long, Long>> snapshot = new HashMap<>();
+    buckets.forEach((hour, counts) -> {
+      Map<Long, Long> copy = new HashMap<>();
+      counts.forEach((id, count) -> copy.put(id, count.sum()));
+      snapshot.put(hour, copy);
+    });
+    return snapshot;
+  }
+
+  /**
+   * 저장한 버킷 내용을 더함 (보관 시간이 지난 버킷은 무시)
+   * @param snapshot snapshot()으로 만든 내용
+   */
+  public void restore(Map<Long, Map<Long, Long>> snapshot) {
+    long oldest = currentHour() - retentionHours + 1;
+    snapshot.forEach((hour, counts) -> {
+      if (hour < oldest) return;
+      ConcurrentHashMap<Long, LongAdder> bucket = buckets.computeIfAbsent(hour, key -> new ConcurrentHashMap<>());
+      counts.forEach((id, count) -> bucket.computeIfAbsent(id, key -> new LongAdder()).add(count));
+    });
+  }
+
+  private long currentHour() {
+    return clock.getAsLong() / HOUR_MILLIS;
+  }
+
+  /**
+   * 순위 항목
+   */
+  @Data
+  @AllArgsConstructor
+  public static class Entry {
+    private Long id;      // 대상 번호
+    private long count;   // 기간 내 횟수
+  }
+}
@@ -0,0 +1,187 @@
+package org.scoula.common.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 프로세스 내 역색인(inverted index)
+ * - 토큰 → (문서 ID → 가중 빈도) 목록을 유지하여 전체 스캔 없이 검색
+ * - 문서 단위로 추가/교체/삭제 가능 (증분 갱신)
+ * - BM25 점수에 질의 토큰 포함 비율을 곱해 순위 결정
+ * - 읽기/쓰기 락으로 검색은 동시에, 갱신은 배타적으로 처리
+ */
+public class InvertedIndex {
+
+  // BM25 파라미터
+  private static final double K1 = 1.2;
+  private static final double B = 0.75;
+
+  // 토큰 → (문서 ID → 가중 빈도)
+  private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+
+  // 문서 ID → (토큰 → 가중 빈도) : 삭제/교체 시 postings 정리용
+  private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+
+  // 문서 ID → 문서 길이 (가중 토큰 수 합)
+  private final Map<Long, Integer> lengths = new HashMap<>();
+  private long totalLength = 0;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /**
+   * 필드 텍스트의 토큰 빈도를 가중치를 곱해 누적
+   * @param terms 누적할 맵
+   * @param text 필드 텍스트
+   * @param weight 필드 가중치 (예: 제목 3, 본문 1)
+   * @return 누적된 맵 (체이닝용)
+   */
+  public static Map<String, Integer> countTerms(Map<String, Integer> terms, String text, int weight) {
+    for (String token : Tokenizer.tokenize(text)) {
+      terms.merge(token, weight, Integer::sum);
+    }
+    return terms;
+  }
+
+  /**
+   * 문서 추가 또는 교체
+   * @param id 문서 ID
+   * @param terms 토큰 → 가중 빈도 (countTerms로 생성)
+   */
+  public void put(Long id, Map<String, Integer> terms) {
+    lock.writeLock().lock();
+    try {
+      removeInternal(id);
+
+      int length = 0;
+      for (Map.Entry<String, Integer> term : terms.entrySet()) {
+        postings.computeIfAbsent(term.getKey(), k -> new HashMap<>()).put(id, term.getValue());
+        length += term.getValue();
+      }
+      documents.put(id, new HashMap<>(terms));
+      lengths.put(id, length);
+      totalLength += length;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 문서 삭제
+   * @param id 문서 ID
+   */
+  public void remove(Long id) {
+    lock.writeLock().lock();
+    try {
+      removeInternal(id);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 전체 문서 삭제
+   */
+  public void clear() {
+    lock.writeLock().lock();
+    try {
+      postings.clear();
+      documents.clear();
+      lengths.clear();
+      totalLength = 0;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 검색
+   * @param query 검색어
+   * @return 점수 내림차순(동점이면 ID 내림차순) 검색 결과
+   */
+  public List<Hit> search(String query) {
+    Set<String> queryTerms = new LinkedHashSet<>(Tokenizer.tokenize(query));
+    if (queryTerms.isEmpty()) {
+      return List.of();
+    }
+
+    lock.readLock().lock();
+    try {
+      int docCount = documents.size();
+      if (docCount == 0) {
+        return List.of();
+      }
+      double avgLength = (double) totalLength / docCount;
+
+      Map<Long, double[]> scores = new HashMap<>();  // [0]: 점수, [1]: 매칭된 토큰 수
+      for (String term : queryTerms) {
+        Map<Long, Integer> docs = postings.get(term);
+        if (docs == null) continue;
+
+        double idf = Math.log(1 + (docCount - docs.size() + 0.5) / (docs.size() + 0.5));
+        for (Map.Entry<Long, Integer> doc : docs.entrySet()) {
+          int tf = doc.getValue();
+          double norm = 1 - B + B * lengths.get(doc.getKey()) / avgLength;
+          double[] score = scores.computeIfAbsent(doc.getKey(), k -> new double[2]);
+          score[0] += idf * tf * (K1 + 1) / (tf + K1 * norm);
+          score[1]++;
+        }
+      }
+
+      List<Hit> hits = new ArrayList<>(scores.size());
+      for (Map.Entry<Long, double[]> entry : scores.entrySet()) {
+        double coverage = entry.getValue()[1] / queryTerms.size();
+        hits.add(new Hit(entry.getKey(), entry.getValue()[0] * coverage));
+      }
+      hits.sort(Comparator.comparingDouble(Hit::getScore).reversed()
+              .thenComparing(Hit::getId, Comparator.reverseOrder()));
+      return hits;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // 색인된 문서 수
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return documents.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // 쓰기 락을 잡은 상태에서 호출
+  private void removeInternal(Long id) {
+    Map<String, Integer> terms = documents.remove(id);
+    if (terms == null) return;
+
+    for (String term : terms.keySet()) {
+      Map<Long, Integer> docs = postings.get(term);
+      if (docs != null) {
+        docs.remove(id);
+        if (docs.isEmpty()) {
+          postings.remove(term);
+        }
+      }
+    }
+    totalLength -= lengths.remove(id);
+  }
+
+  // 검색 결과 항목
+  @Data
+  @AllArgsConstructor
+  public static class Hit {
+    private Long id;       // 문서 ID
+    private double score;  // 관련도 점수
+  }
+}
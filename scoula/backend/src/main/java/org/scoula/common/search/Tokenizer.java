@@ -0,0 +1,85 @@
+package org.scoula.common.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저
+ * - 한글(CJK): 띄어쓰기/조사와 무관하게 매칭되도록 연속된 글자를 2글자(bigram) 단위로 분리
+ *   예) "서울여행" → [서울, 울여, 여행]
+ * - 영문/숫자: 단어 단위로 분리하고 소문자로 정규화
+ *   예) "Spring MVC" → [spring, mvc]
+ */
+public class Tokenizer {
+
+  private enum Type { NONE, CJK, WORD }
+
+  /**
+   * 텍스트를 토큰 목록으로 분리 (중복 포함, 등장 순서 유지)
+   * @param text 원본 텍스트 (null 허용)
+   * @return 토큰 목록
+   */
+  public static List<String> tokenize(String text) {
+    List<String> tokens = new ArrayList<>();
+    if (text == null || text.isEmpty()) {
+      return tokens;
+    }
+
+    String normalized = text.toLowerCase(Locale.ROOT);
+    StringBuilder run = new StringBuilder();
+    Type runType = Type.NONE;
+
+    for (int i = 0; i < normalized.length(); i++) {
+      char ch = normalized.charAt(i);
+      Type type = typeOf(ch);
+
+      if (type != runType) {
+        flush(run, runType, tokens);
+        runType = type;
+      }
+      if (type != Type.NONE) {
+        run.append(ch);
+      }
+    }
+    flush(run, runType, tokens);
+
+    return tokens;
+  }
+
+  // 연속된 같은 종류의 글자 묶음을 토큰으로 변환
+  private static void flush(StringBuilder run, Type type, List<String> tokens) {
+    if (run.length() == 0) {
+      return;
+    }
+
+    if (type == Type.WORD) {
+      tokens.add(run.toString());
+    } else if (type == Type.CJK) {
+      if (run.length() == 1) {
+        tokens.add(run.toString());   // 한 글자는 그대로
+      } else {
+        for (int i = 0; i + 1 < run.length(); i++) {
+          tokens.add(run.substring(i, i + 2));
+        }
+      }
+    }
+    run.setLength(0);
+  }
+
+  private static Type typeOf(char ch) {
+    Character.UnicodeBlock block = Character.UnicodeBlock.of(ch);
+    if (block == Character.UnicodeBlock.HANGUL_SYLLABLES
+            || block == Character.UnicodeBlock.HANGUL_JAMO
+            || block == Character.UnicodeBlock.HANGUL_COMPATIBILITY_JAMO
+            || block == Character.UnicodeBlock.CJK_UNIFIED_IDEOGRAPHS
+            || block == Character.UnicodeBlock.HIRAGANA
+            || block == Character.UnicodeBlock.KATAKANA) {
+      return Type.CJK;
+    }
+    if (Character.isLetterOrDigit(ch)) {
+      return Type.WORD;
+    }
+    return Type.NONE;
+  }
+}
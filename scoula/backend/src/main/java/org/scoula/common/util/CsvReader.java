@@ -0,0 +1,154 @@
+package org.scoula.common.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 CSV 파서 (RFC 4180)
+ * - 고정 크기 버퍼로 읽으면서 한 레코드씩 반환하므로 파일 크기와 관계없이 메모리 사용량이 일정
+ * - 따옴표로 감싼 필드 안의 쉼표, 줄바꿈(여러 줄 필드), 두 번 쓴 따옴표("")를 처리
+ * - 레코드 구분은 LF 또는 CRLF, 파일 앞의 BOM은 무시
+ *
+ * 사용 예)
+ *   try (CsvReader csv = new CsvReader(reader)) {
+ *     for (List<String> record; (record = csv.next()) != null; ) { ... }
+ *   }
+ */
+public class CsvReader implements Closeable {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Reader reader;
+  private final char[] buffer = new char[BUFFER_SIZE];
+  private int position;
+  private int limit;
+  private boolean started;      // BOM 확인 여부
+
+  private long lineNumber = 1;  // 현재 읽는 위치의 줄 번호 (오류 메시지용)
+  private long recordCount;     // 반환한 레코드 수
+
+  public CsvReader(Reader reader) {
+    this.reader = reader;
+  }
+
+  /**
+   * 다음 레코드
+   * - 빈 줄은 건너뜀
+   * @return 필드 목록 (더 이상 없으면 null)
+   * @throws IllegalArgumentException 따옴표가 닫히지 않았거나 닫는 따옴표 뒤에 다른 문자가 있는 경우
+   */
+  public List<String> next() throws IOException {
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;       // 따옴표 안인지
+    boolean wasQuoted = false;    // 현재 필드가 따옴표로 감싸져 있었는지
+    long startLine = lineNumber;
+
+    for (int c; (c = read()) != -1; ) {
+      if (quoted) {
+        if (c == '"') {
+          if (peek() == '"') {        // "" → "
+            read();
+            field.append('"');
+          } else {
+            quoted = false;
+          }
+        } else {
+          if (c == '\n') lineNumber++;
+          field.append((char) c);
+        }
+        continue;
+      }
+
+      switch (c) {
+        case ',' -> {
+          fields.add(field.toString());
+          field.setLength(0);
+          wasQuoted = false;
+        }
+        case '"' -> {
+          if (field.length() > 0 || wasQuoted) {
+            throw new IllegalArgumentException("잘못된 따옴표 위치 (" + lineNumber + "번째 줄)");
+          }
+          quoted = true;
+          wasQuoted = true;
+        }
+        case '\r' -> {
+          if (peek() != '\n') field.append('\r');   // 단독 CR은 값으로 취급
+        }
+        case '\n' -> {
+          lineNumber++;
+          if (fields.isEmpty() && field.length() == 0 && !wasQuoted) {
+            startLine = lineNumber;   // 빈 줄
+            continue;
+          }
+          fields.add(field.toString());
+          recordCount++;
+          return fields;
+        }
+        default -> {
+          if (wasQuoted) {
+            throw new IllegalArgumentException("닫는 따옴표 뒤에 문자가 있습니다 (" + lineNumber + "번째 줄)");
+          }
+          field.append((char) c);
+        }
+      }
+    }
+
+    if (quoted) {
+      throw new IllegalArgumentException("닫히지 않은 따옴표 (" + startLine + "번째 줄에서 시작)");
+    }
+    if (fields.isEmpty() && field.length() == 0 && !wasQuoted) {
+      return null;   // 파일 끝 (마지막 줄바꿈 뒤)
+    }
+    fields.add(field.toString());
+    recordCount++;
+    return fields;
+  }
+
+  // 현재 줄 번호
+  public long getLineNumber() {
+    return lineNumber;
+  }
+
+  // 지금까지 반환한 레코드 수
+  public long getRecordCount() {
+    return recordCount;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private int read() throws IOException {
+    if (!fill()) return -1;
+    return buffer[position++];
+  }
+
+  private int peek() throws IOException {
+    if (!fill()) return -1;
+    return buffer[position];
+  }
+
+  // 버퍼가 비었으면 채움 (처음이면 BOM 건너뜀)
+  private boolean fill() throws IOException {
+    while (position >= limit) {
+      limit = reader.read(buffer, 0, buffer.length);
+      position = 0;
+      if (limit < 0) {
+        limit = 0;
+        return false;
+      }
+    }
+    if (!started) {
+      started = true;
+      if (buffer[position] == '\uFEFF') position++;
+      return fill();
+    }
+    return true;
+  }
+}
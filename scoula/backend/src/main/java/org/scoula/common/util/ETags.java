@@ -0,0 +1,30 @@
+package org.scoula.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.StringJoiner;
+
+public class ETags {
+  /**
+   * 버전을 나타내는 값들로 강한(strong) ETag 생성
+   * - 값들을 이어 붙인 문자열의 SHA-256 앞 16자리를 사용 (값이 같으면 항상 같은 ETag)
+   * @param parts 버전 구성 값 (예: 게시글 번호, 수정일시, 첨부파일 번호들)
+   * @return 따옴표로 감싼 ETag (예: "3f2a9c...")
+   */
+  public static String of(Object... parts) {
+    StringJoiner joiner = new StringJoiner(":");
+    for (Object part : parts) {
+      joiner.add(String.valueOf(part));
+    }
+
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256")
+              .digest(joiner.toString().getBytes(StandardCharsets.UTF_8));
+      return "\"" + HexFormat.of().formatHex(hash, 0, 8) + "\"";
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);   // 모든 JVM에서 지원하는 알고리즘
+    }
+  }
+}
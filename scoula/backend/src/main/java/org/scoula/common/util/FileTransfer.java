@@ -0,0 +1,255 @@
+package org.scoula.common.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 파일 응답 전송 (HTTP Range 지원)
+ * - Range 요청이면 206 Partial Content로 요청한 구간만 전송 (단일/다중 구간)
+ * - 컨테이너가 sendfile을 지원하면(Tomcat) 커널에서 바로 전송하고, 아니면 FileChannel.transferTo 사용
+ * - 크기는 long으로 처리하므로 2GB를 넘는 파일도 전송 가능
+ * - ETag(크기 + 수정 시각)/Last-Modified 조건부 요청이면 파일을 열지 않고 304 응답
+ */
+public class FileTransfer {
+
+  // Tomcat sendfile 요청 속성
+  private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+  private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+  private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+  private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+  // 다중 구간 요청 시 허용하는 최대 구간 수 (과도하게 잘게 쪼갠 요청 방지)
+  private static final int MAX_RANGES = 16;
+
+  /**
+   * 파일을 응답으로 전송
+   * @param request HTTP 요청 객체 (Range, If-Range 헤더 확인용)
+   * @param response HTTP 응답 객체
+   * @param file 전송할 파일
+   * @param contentType 응답 Content-Type
+   * @throws IOException 전송 중 오류 발생 시
+   */
+  public static void send(HttpServletRequest request, HttpServletResponse response,
+                          File file, String contentType) throws IOException {
+    if (!file.isFile()) {
+      response.sendError(HttpServletResponse.SC_NOT_FOUND);
+      return;
+    }
+
+    long length = file.length();
+    long lastModified = file.lastModified();
+    String etag = ETags.of(length, lastModified);   // 내용을 읽지 않고 크기와 수정 시각으로 생성
+    response.setHeader("Accept-Ranges", "bytes");
+
+    // If-None-Match / If-Modified-Since가 일치하면 304 (ETag, Last-Modified 헤더도 여기서 설정됨)
+    if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+      return;
+    }
+
+    // If-Range가 현재 파일과 다르면 Range를 무시하고 전체 전송
+    String rangeHeader = request.getHeader("Range");
+    if (rangeHeader != null && !matchesIfRange(request, etag, lastModified)) {
+      rangeHeader = null;
+    }
+
+    List<Range> ranges = parseRanges(rangeHeader, length);
+    if (ranges == null) {
+      // 1. 전체 전송
+      response.setStatus(HttpServletResponse.SC_OK);
+      response.setContentType(contentType);
+      response.setContentLengthLong(length);
+      transfer(request, response, file, new Range(0, length - 1));
+
+    } else if (ranges.isEmpty()) {
+      // 2. 만족할 수 없는 구간
+      response.setHeader("Content-Range", "bytes */" + length);
+      response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+
+    } else if (ranges.size() == 1) {
+      // 3. 단일 구간
+      Range range = ranges.get(0);
+      response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+      response.setContentType(contentType);
+      response.setHeader("Content-Range", range.contentRange(length));
+      response.setContentLengthLong(range.length());
+      transfer(request, response, file, range);
+
+    } else {
+      // 4. 다중 구간 (multipart/byteranges)
+      sendMultipart(request, response, file, contentType, ranges);
+    }
+  }
+
+  /**
+   * Range 헤더 파싱 (bytes=0-99,200-,-500)
+   * @param header Range 헤더 값
+   * @param length 파일 크기
+   * @return 전체 전송이면 null, 만족할 수 있는 구간이 없으면 빈 목록, 아니면 구간 목록
+   */
+  public static List<Range> parseRanges(String header, long length) {
+    if (header == null || !header.startsWith("bytes=")) {
+      return null;   // 없거나 지원하지 않는 단위는 무시하고 전체 전송
+    }
+
+    List<Range> ranges = new ArrayList<>();
+    for (String spec : header.substring("bytes=".length()).split(",")) {
+      spec = spec.trim();
+      int dash = spec.indexOf('-');
+      if (dash < 0) return null;   // 형식 오류는 Range가 없는 것으로 처리
+
+      try {
+        String first = spec.substring(0, dash).trim();
+        String last = spec.substring(dash + 1).trim();
+        long start;
+        long end;
+        if (first.isEmpty()) {
+          // bytes=-500 : 마지막 500바이트
+          long suffix = Long.parseLong(last);
+          if (suffix <= 0) continue;
+          start = Math.max(0, length - suffix);
+          end = length - 1;
+        } else {
+          start = Long.parseLong(first);
+          end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+          if (end < start) return null;   // 끝이 시작보다 앞이면 형식 오류
+          end = Math.min(end, length - 1);
+        }
+        if (start >= length) continue;   // 파일 범위 밖의 구간은 제외
+        ranges.add(new Range(start, end));
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+
+    if (ranges.size() > MAX_RANGES) {
+      return null;
+    }
+    return ranges;
+  }
+
+  // If-Range 헤더가 없거나 현재 파일의 ETag/수정 시각과 같으면 true (약한 ETag는 불일치로 처리)
+  private static boolean matchesIfRange(HttpServletRequest request, String etag, long lastModified) {
+    String ifRange = request.getHeader("If-Range");
+    if (ifRange == null) {
+      return true;
+    }
+    if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+      return ifRange.equals(etag);
+    }
+    try {
+      long since = request.getDateHeader("If-Range");
+      return since >= 0 && lastModified / 1000 == since / 1000;   // HTTP 날짜는 초 단위
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  // 한 구간 전송 - sendfile을 쓸 수 있으면 컨테이너에 위임
+  private static void transfer(HttpServletRequest request, HttpServletResponse response,
+                               File file, Range range) throws IOException {
+    if ("HEAD".equals(request.getMethod()) || range.length() == 0) {
+      return;
+    }
+
+    if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+      request.setAttribute(SENDFILE_FILENAME, file.getCanonicalPath());
+      request.setAttribute(SENDFILE_START, range.getStart());
+      request.setAttribute(SENDFILE_END, range.getEnd() + 1);   // 끝 위치는 포함하지 않음
+      return;
+    }
+
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      OutputStream out = response.getOutputStream();
+      copy(channel, Channels.newChannel(out), range);
+      out.flush();
+    }
+  }
+
+  // multipart/byteranges 응답 전송
+  private static void sendMultipart(HttpServletRequest request, HttpServletResponse response,
+                                    File file, String contentType, List<Range> ranges)
+          throws IOException {
+    long length = file.length();
+    String boundary = UUID.randomUUID().toString().replace("-", "");
+
+    // 본문 크기를 미리 계산하여 Content-Length 설정
+    List<byte[]> headers = new ArrayList<>();
+    long total = 0;
+    for (Range range : ranges) {
+      byte[] header = ("\r\n--" + boundary + "\r\n"
+              + "Content-Type: " + contentType + "\r\n"
+              + "Content-Range: " + range.contentRange(length) + "\r\n\r\n")
+              .getBytes(StandardCharsets.ISO_8859_1);
+      headers.add(header);
+      total += header.length + range.length();
+    }
+    byte[] trailer = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.ISO_8859_1);
+    total += trailer.length;
+
+    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+    response.setContentType("multipart/byteranges; boundary=" + boundary);
+    response.setContentLengthLong(total);
+    if ("HEAD".equals(request.getMethod())) {
+      return;
+    }
+
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      OutputStream out = response.getOutputStream();
+      WritableByteChannel target = Channels.newChannel(out);
+      for (int i = 0; i < ranges.size(); i++) {
+        out.write(headers.get(i));
+        copy(channel, target, ranges.get(i));
+      }
+      out.write(trailer);
+      out.flush();
+    }
+  }
+
+  // transferTo는 요청한 크기보다 적게 보낼 수 있으므로 끝까지 반복
+  private static void copy(FileChannel channel, WritableByteChannel target, Range range)
+          throws IOException {
+    long position = range.getStart();
+    long remaining = range.length();
+    while (remaining > 0) {
+      long sent = channel.transferTo(position, remaining, target);
+      if (sent <= 0) {
+        throw new IOException("파일 전송이 중단되었습니다.");
+      }
+      position += sent;
+      remaining -= sent;
+    }
+  }
+
+  /**
+   * 바이트 구간 (start, end 모두 포함)
+   */
+  @Getter
+  @AllArgsConstructor
+  public static class Range {
+    private final long start;
+    private final long end;
+
+    public long length() {
+      return end - start + 1;
+    }
+
+    String contentRange(long total) {
+      return "bytes " + start + "-" + end + "/" + total;
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package org.scoula.common.util;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+
+public class ImageResizer {
+  /**
+   * 이미지를 maxSize x maxSize 안에 들어가도록 비율을 유지하여 축소
+   * - 원본이 훨씬 크면 디코딩 단계에서 픽셀을 건너뛰며 읽어(subsampling) 메모리 사용을 줄임
+   * - 투명 영역은 흰색 배경으로 합성 (JPEG 등 불투명 포맷 저장용)
+   * - 임시 파일에 기록한 뒤 이동하므로 읽는 쪽에서 만들다 만 파일을 보지 않음
+   * @param src 원본 이미지 파일
+   * @param dest 저장할 파일
+   * @param maxSize 가로/세로 최대 크기(px)
+   * @param format 저장 포맷 (jpg, png 등)
+   * @return 저장했으면 true, 읽을 수 없는 이미지면 false
+   * @throws IOException 파일 처리 중 오류 발생 시
+   */
+  public static boolean resize(File src, File dest, int maxSize, String format) throws IOException {
+    return resize(src, dest, maxSize, maxSize, format);
+  }
+
+  /**
+   * 이미지를 maxWidth x maxHeight 안에 들어가도록 비율을 유지하여 축소
+   * - 너비만 맞추려면 maxHeight에 Integer.MAX_VALUE 지정
+   * @param src 원본 이미지 파일
+   * @param dest 저장할 파일
+   * @param maxWidth 가로 최대 크기(px)
+   * @param maxHeight 세로 최대 크기(px)
+   * @param format 저장 포맷 (jpg, png 등)
+   * @return 저장했으면 true, 읽을 수 없는 이미지면 false
+   * @throws IOException 파일 처리 중 오류 발생 시
+   */
+  public static boolean resize(File src, File dest, int maxWidth, int maxHeight, String format) throws IOException {
+    BufferedImage image = read(src, maxWidth, maxHeight);
+    if (image == null) {
+      return false;
+    }
+
+    // 비율 유지 축소 크기 (원본이 더 작으면 그대로)
+    double scale = Math.min(1.0, Math.min((double) maxWidth / image.getWidth(), (double) maxHeight / image.getHeight()));
+    int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+    int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+    BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = resized.createGraphics();
+    try {
+      g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      g.setColor(Color.WHITE);
+      g.fillRect(0, 0, width, height);
+      g.drawImage(image, 0, 0, width, height, null);
+    } finally {
+      g.dispose();
+    }
+
+    dest.getParentFile().mkdirs();
+    File temp = new File(dest.getParentFile(), dest.getName() + ".part");
+    try {
+      if (!ImageIO.write(resized, format, temp)) {
+        throw new IOException("지원하지 않는 이미지 포맷입니다: " + format);
+      }
+      Files.move(temp.toPath(), dest.toPath(),
+              StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temp.toPath());
+    }
+    return true;
+  }
+
+  // 목표 크기의 2배 이상은 남도록 subsampling 하여 디코딩 (읽을 수 없으면 null)
+  private static BufferedImage read(File src, int maxWidth, int maxHeight) throws IOException {
+    try (ImageInputStream in = ImageIO.createImageInputStream(src)) {
+      if (in == null) {
+        return null;
+      }
+      Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+      if (!readers.hasNext()) {
+        return null;
+      }
+
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(in, true, true);
+        int step = Math.max(1, (int) Math.min(reader.getWidth(0) / (maxWidth * 2L),
+                reader.getHeight(0) / (maxHeight * 2L)));
+
+        ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceSubsampling(step, step, 0, 0);
+        return reader.read(0, param);
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+}
@@ -0,0 +1,290 @@
+package org.scoula.common.util;
+
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * multipart/form-data 스트리밍 파서
+ * - 요청 본문을 고정 크기 버퍼로 조금씩 읽으면서 파트 단위로 나누어 제공
+ * - 파트 본문은 InputStream으로 제공되므로 파일 전체를 메모리나 임시 파일에 올리지 않음
+ * - 파트는 순서대로만 읽을 수 있음 (next() 호출 시 이전 파트의 남은 본문은 건너뜀)
+ *
+ * 사용 예)
+ *   MultipartStream multipart = new MultipartStream(request.getInputStream(), boundary, 64 * 1024);
+ *   for (MultipartStream.Part part; (part = multipart.next()) != null; ) { ... part.getBody() ... }
+ */
+public class MultipartStream {
+
+  private static final int MAX_HEADER_SIZE = 8 * 1024;  // 파트 헤더 한 줄 최대 크기
+
+  private final InputStream in;
+  private final byte[] delimiter;   // "\r\n--" + boundary
+  private final byte[] buf;
+  private int head = 0;             // 아직 읽지 않은 데이터 시작 위치
+  private int tail = 0;             // 버퍼에 채워진 데이터 끝 위치
+  private boolean eof = false;      // 원본 스트림 끝 도달 여부
+  private boolean finished = false; // 마지막 경계(--boundary--) 도달 여부
+  private PartInputStream current;  // 현재 파트 본문
+
+  /**
+   * @param in 요청 본문 스트림
+   * @param boundary Content-Type의 boundary 값
+   * @param bufferSize 읽기 버퍼 크기 (요청당 사용하는 메모리)
+   */
+  public MultipartStream(InputStream in, String boundary, int bufferSize) {
+    this.in = in;
+    this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+    this.buf = new byte[Math.max(bufferSize, delimiter.length * 2 + MAX_HEADER_SIZE)];
+
+    // 본문은 CRLF 없이 "--boundary"로 시작하므로 앞에 CRLF가 있는 것으로 간주
+    buf[tail++] = '\r';
+    buf[tail++] = '\n';
+  }
+
+  /**
+   * Content-Type 헤더에서 boundary 추출
+   * @param contentType 요청 Content-Type
+   * @return boundary (multipart 요청이 아니면 null)
+   */
+  public static String boundaryOf(String contentType) {
+    if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith("multipart/")) {
+      return null;
+    }
+    String boundary = parseParams(contentType).get("boundary");
+    return boundary == null || boundary.isEmpty() ? null : boundary;
+  }
+
+  /**
+   * 다음 파트로 이동
+   * @return 다음 파트 (더 이상 없으면 null)
+   * @throws IOException 읽기 실패 또는 잘못된 형식인 경우
+   */
+  public Part next() throws IOException {
+    if (finished) {
+      return null;
+    }
+
+    // 첫 호출이면 첫 경계까지의 preamble을, 아니면 이전 파트의 남은 본문을 건너뜀
+    (current != null ? current : new PartInputStream()).drain();
+
+    // 경계 뒤 "--"이면 마지막 파트가 끝난 것
+    ensure(2);
+    if (tail - head < 2) {
+      throw new IOException("멀티파트 본문이 예기치 않게 끝났습니다.");
+    }
+    if (buf[head] == '-' && buf[head + 1] == '-') {
+      finished = true;
+      return null;
+    }
+    readLine();   // 경계 줄의 나머지(CRLF) 건너뛰기
+
+    // 파트 헤더 읽기 (빈 줄까지)
+    Map<String, String> headers = new HashMap<>();
+    for (String line = readLine(); !line.isEmpty(); line = readLine()) {
+      int colon = line.indexOf(':');
+      if (colon > 0) {
+        headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT),
+                line.substring(colon + 1).trim());
+      }
+    }
+
+    Map<String, String> disposition = parseParams(headers.getOrDefault("content-disposition", ""));
+    current = new PartInputStream();
+    return new Part(disposition.get("name"), disposition.get("filename"),
+            headers.get("content-type"), current);
+  }
+
+  // 버퍼에 최소 n 바이트가 있도록 채움 (스트림 끝이면 있는 만큼만)
+  private void ensure(int n) throws IOException {
+    while (tail - head < n && !eof) {
+      fill();
+    }
+  }
+
+  // 남은 데이터를 버퍼 앞으로 당기고 원본 스트림에서 추가로 읽음
+  private void fill() throws IOException {
+    if (head > 0) {
+      System.arraycopy(buf, head, buf, 0, tail - head);
+      tail -= head;
+      head = 0;
+    }
+    if (tail == buf.length) {
+      throw new IOException("멀티파트 헤더가 너무 깁니다.");
+    }
+    int n = in.read(buf, tail, buf.length - tail);
+    if (n < 0) {
+      eof = true;
+    } else {
+      tail += n;
+    }
+  }
+
+  // CRLF로 끝나는 한 줄 읽기 (헤더용, UTF-8)
+  private String readLine() throws IOException {
+    while (true) {
+      for (int i = head; i + 1 < tail; i++) {
+        if (buf[i] == '\r' && buf[i + 1] == '\n') {
+          String line = new String(buf, head, i - head, StandardCharsets.UTF_8);
+          head = i + 2;
+          return line;
+        }
+      }
+      if (tail - head > MAX_HEADER_SIZE) {
+        throw new IOException("멀티파트 헤더가 너무 깁니다.");
+      }
+      if (eof) {
+        throw new IOException("멀티파트 본문이 예기치 않게 끝났습니다.");
+      }
+      fill();
+    }
+  }
+
+  // 버퍼의 [head, tail) 구간에서 경계 위치 검색
+  private int indexOfDelimiter() {
+    outer:
+    for (int i = head; i + delimiter.length <= tail; i++) {
+      for (int j = 0; j < delimiter.length; j++) {
+        if (buf[i + j] != delimiter[j]) continue outer;
+      }
+      return i;
+    }
+    return -1;
+  }
+
+  // 헤더 값의 "; key=value" 파라미터 파싱 (따옴표 지원)
+  private static Map<String, String> parseParams(String header) {
+    Map<String, String> params = new HashMap<>();
+    int i = header.indexOf(';');
+    while (i >= 0 && i < header.length()) {
+      int eq = header.indexOf('=', i);
+      if (eq < 0) break;
+      String key = header.substring(i + 1, eq).trim().toLowerCase(Locale.ROOT);
+
+      String value;
+      int end;
+      if (eq + 1 < header.length() && header.charAt(eq + 1) == '"') {
+        StringBuilder sb = new StringBuilder();
+        end = eq + 2;
+        while (end < header.length() && header.charAt(end) != '"') {
+          char ch = header.charAt(end);
+          if (ch == '\\' && end + 1 < header.length()) {
+            ch = header.charAt(++end);
+          }
+          sb.append(ch);
+          end++;
+        }
+        value = sb.toString();
+        end = header.indexOf(';', end);
+      } else {
+        end = header.indexOf(';', eq);
+        value = header.substring(eq + 1, end < 0 ? header.length() : end).trim();
+      }
+      params.put(key, value);
+      i = end;
+    }
+    return params;
+  }
+
+  /**
+   * 멀티파트의 한 파트
+   */
+  @Getter
+  public static class Part {
+    private final String name;          // 폼 필드 이름
+    private final String filename;      // 원본 파일명 (파일 파트가 아니면 null)
+    private final String contentType;   // 파트 Content-Type
+    private final InputStream body;     // 파트 본문 (경계 전까지)
+
+    Part(String name, String filename, String contentType, InputStream body) {
+      this.name = name;
+      this.filename = filename;
+      this.contentType = contentType;
+      this.body = body;
+    }
+
+    // 파일 파트 여부
+    public boolean isFile() {
+      return filename != null;
+    }
+
+    /**
+     * 텍스트 필드 값 읽기
+     * @param maxBytes 허용 최대 크기
+     * @return UTF-8 문자열
+     * @throws IllegalArgumentException 최대 크기를 넘는 경우
+     */
+    public String readString(int maxBytes) throws IOException {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] chunk = new byte[1024];
+      for (int n; (n = body.read(chunk)) > 0; ) {
+        if (out.size() + n > maxBytes) {
+          throw new IllegalArgumentException("필드 값이 너무 깁니다: " + name);
+        }
+        out.write(chunk, 0, n);
+      }
+      return out.toString(StandardCharsets.UTF_8);
+    }
+  }
+
+  // 다음 경계 직전까지만 읽히는 파트 본문 스트림
+  private class PartInputStream extends InputStream {
+    private boolean done = false;
+
+    @Override
+    public int read() throws IOException {
+      byte[] one = new byte[1];
+      int n = read(one, 0, 1);
+      return n < 0 ? -1 : one[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (done) return -1;
+      if (len == 0) return 0;
+
+      while (true) {
+        int idx = indexOfDelimiter();
+        if (idx >= 0) {
+          int available = idx - head;
+          if (available == 0) {
+            head += delimiter.length;   // 경계 소비 후 파트 종료
+            done = true;
+            return -1;
+          }
+          return copy(b, off, Math.min(len, available));
+        }
+
+        // 경계가 버퍼 끝에 걸쳐 있을 수 있으므로 경계 길이-1 만큼은 남겨둠
+        int safe = (tail - head) - (delimiter.length - 1);
+        if (safe > 0) {
+          return copy(b, off, Math.min(len, safe));
+        }
+        if (eof) {
+          throw new IOException("멀티파트 본문이 예기치 않게 끝났습니다.");
+        }
+        fill();
+      }
+    }
+
+    // 남은 본문을 모두 건너뜀
+    void drain() throws IOException {
+      byte[] skip = new byte[4096];
+      while (read(skip, 0, skip.length) >= 0) {
+        // 버림
+      }
+    }
+
+    private int copy(byte[] b, int off, int n) {
+      System.arraycopy(buf, head, b, off, n);
+      head += n;
+      return n;
+    }
+  }
+}
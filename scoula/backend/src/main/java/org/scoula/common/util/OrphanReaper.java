@@ -0,0 +1,233 @@
+package org.scoula.common.util;
+
+import lombok.Data;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 고아 파일(DB에서 참조하지 않는 파일) 정리기
+ * - 정렬된 파일 목록과 정렬된 참조 목록을 한 번씩만 훑는 병합 방식으로 고아 파일을 찾음
+ *   (참조 목록을 메모리에 모두 올리지 않으므로 DB 커서로 흘려 읽을 수 있음)
+ * - 최근에 만든 파일은 커밋 전 업로드일 수 있으므로 최소 보관 시간이 지난 파일만 대상
+ * - 삭제는 배치 단위로 나누고 배치 사이에 쉬어 디스크 I/O가 몰리지 않도록 제한
+ * - dry-run이면 찾기만 하고 삭제하지 않음
+ *
+ * 사용 순서)
+ *   1. collect(): 파일과 참조 목록을 병합하여 고아 파일 수집 (DB 커서가 열려 있는 동안)
+ *   2. delete(): 커서를 닫은 뒤 수집한 파일을 배치 단위로 삭제
+ */
+@Log4j2
+public class OrphanReaper {
+
+  /**
+   * 코드 포인트 순 비교 (MySQL utf8mb4_bin 정렬과 같은 순서)
+   * - String.compareTo는 UTF-16 단위로 비교하므로 보조 문자가 섞이면 DB 순서와 달라짐
+   */
+  public static final Comparator<String> BINARY_ORDER = (a, b) -> {
+    int i = 0;
+    int j = 0;
+    while (i < a.length() && j < b.length()) {
+      int ca = a.codePointAt(i);
+      int cb = b.codePointAt(j);
+      if (ca != cb) {
+        return Integer.compare(ca, cb);
+      }
+      i += Character.charCount(ca);
+      j += Character.charCount(cb);
+    }
+    return Integer.compare(a.length() - i, b.length() - j);
+  };
+
+  private final boolean dryRun;        // true면 삭제하지 않고 보고만 함
+  private final long minAgeMillis;     // 이 시간보다 최근에 수정된 파일은 제외
+  private final int maxPerRun;         // 한 번 실행에서 삭제할 최대 파일 수
+  private final int batchSize;         // 배치당 삭제 파일 수
+  private final long batchDelayMillis; // 배치 사이 대기 시간
+
+  public OrphanReaper(boolean dryRun, long minAgeMillis, int maxPerRun, int batchSize, long batchDelayMillis) {
+    this.dryRun = dryRun;
+    this.minAgeMillis = minAgeMillis;
+    this.maxPerRun = maxPerRun;
+    this.batchSize = Math.max(1, batchSize);
+    this.batchDelayMillis = batchDelayMillis;
+  }
+
+  /**
+   * 새 실행 보고서 생성
+   * @param name 대상 이름 (로그용)
+   */
+  public Report newReport(String name) {
+    Report report = new Report();
+    report.setName(name);
+    report.setDryRun(dryRun);
+    report.setStartedAt(new Date());
+    return report;
+  }
+
+  /**
+   * 정렬된 파일 목록에서 참조되지 않는 파일 수집
+   * @param report 실행 보고서 (scanned, orphans 누적)
+   * @param files key 기준 BINARY_ORDER로 정렬된 파일
+   * @param key 파일 → 참조 키 (예: 경로, 파일명)
+   * @param referenced BINARY_ORDER로 정렬된 참조 키 (중복 허용)
+   * @param orphans 고아 파일을 담을 목록 (maxPerRun까지)
+   */
+  public void collect(Report report, Iterator<File> files, Function<File, String> key,
+                      Iterator<String> referenced, List<File> orphans) {
+    long cutoff = System.currentTimeMillis() - minAgeMillis;
+    String ref = referenced.hasNext() ? referenced.next() : null;
+
+    while (files.hasNext() && orphans.size() < maxPerRun) {
+      File file = files.next();
+      String name = key.apply(file);
+      report.scanned++;
+
+      // 참조 목록을 현재 파일 위치까지 진행
+      while (ref != null && BINARY_ORDER.compare(ref, name) < 0) {
+        ref = referenced.hasNext() ? referenced.next() : null;
+      }
+      if (ref != null && ref.equals(name)) continue;          // 참조되는 파일
+      if (file.lastModified() > cutoff) continue;            // 커밋 전일 수 있는 최근 파일
+
+      orphans.add(file);
+      report.orphans++;
+    }
+  }
+
+  /**
+   * 수집한 고아 파일을 배치 단위로 삭제
+   * @param report 실행 보고서 (deleted, failed, bytes 누적)
+   * @param orphans collect()로 수집한 파일
+   * @param deleter 실제 삭제 함수 (삭제했으면 true)
+   */
+  public void delete(Report report, List<File> orphans, Predicate<File> deleter) {
+    for (int i = 0; i < orphans.size(); i++) {
+      File file = orphans.get(i);
+      long size = file.length();
+      if (dryRun) {
+        log.info("[dry-run] 고아 파일: " + file.getPath());
+        report.bytes += size;
+        continue;
+      }
+
+      try {
+        if (deleter.test(file)) {
+          report.deleted++;
+          report.bytes += size;
+        }
+      } catch (RuntimeException e) {
+        report.failed++;
+        log.warn("고아 파일 삭제 실패: " + file.getPath() + " - " + e.getMessage());
+      }
+
+      // 배치 사이 대기
+      if ((i + 1) % batchSize == 0 && i + 1 < orphans.size() && batchDelayMillis > 0) {
+        try {
+          Thread.sleep(batchDelayMillis);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;   // 종료 중이면 남은 파일은 다음 실행에서 처리
+        }
+      }
+    }
+  }
+
+  /**
+   * 실행 완료 처리 및 로그 출력
+   */
+  public Report finish(Report report) {
+    report.setElapsedMillis(System.currentTimeMillis() - report.getStartedAt().getTime());
+    log.info("고아 파일 정리: " + report);
+    return report;
+  }
+
+  /**
+   * 디렉토리 안의 파일(하위 디렉토리 제외)을 이름 순으로 반환
+   * @param dir 디렉토리 (없으면 빈 목록)
+   * @param filter 포함할 파일 조건
+   */
+  public static Iterator<File> sortedFiles(File dir, Predicate<File> filter) {
+    return sortedEntries(dir, file -> file.isFile() && filter.test(file)).iterator();
+  }
+
+  /**
+   * 2단계 하위 디렉토리(ab/cd/파일)의 파일을 경로 순으로 하나씩 반환
+   * - 한 번에 디렉토리 하나만 읽으므로 파일 수가 많아도 메모리 사용량이 작음
+   * @param dir 최상위 디렉토리
+   */
+  public static Iterator<File> sortedFilesInShards(File dir) {
+    return new Iterator<>() {
+      private final Iterator<File> level1 = sortedEntries(dir, File::isDirectory).iterator();
+      private Iterator<File> level2 = Collections.emptyIterator();
+      private Iterator<File> current = Collections.emptyIterator();
+
+      @Override
+      public boolean hasNext() {
+        while (!current.hasNext()) {
+          if (level2.hasNext()) {
+            current = sortedFiles(level2.next(), file -> true);
+          } else if (level1.hasNext()) {
+            level2 = sortedEntries(level1.next(), File::isDirectory).iterator();
+          } else {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      @Override
+      public File next() {
+        hasNext();
+        return current.next();
+      }
+    };
+  }
+
+  private static List<File> sortedEntries(File dir, Predicate<File> filter) {
+    List<File> entries = new ArrayList<>();
+    if (!dir.isDirectory()) {
+      return entries;
+    }
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir.toPath())) {
+      for (Path path : stream) {
+        File file = path.toFile();
+        if (filter.test(file)) {
+          entries.add(file);
+        }
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("디렉토리를 읽을 수 없습니다: " + dir, e);
+    }
+    entries.sort(Comparator.comparing(File::getName, BINARY_ORDER));
+    return entries;
+  }
+
+  /**
+   * 실행 보고서 (메트릭)
+   */
+  @Data
+  public static class Report {
+    private String name;          // 대상 이름
+    private boolean dryRun;       // dry-run 여부
+    private Date startedAt;       // 시작 시각
+    private long elapsedMillis;   // 소요 시간
+    private long scanned;         // 검사한 파일 수
+    private long orphans;         // 찾은 고아 파일 수
+    private long deleted;         // 삭제한 파일 수
+    private long failed;          // 삭제 실패 수
+    private long bytes;           // 삭제한(dry-run이면 삭제할) 용량
+  }
+}
@@ -0,0 +1,16 @@
+package org.scoula.common.util;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+public class Timestamps {
+  /**
+   * DB에 저장할 현재 시각
+   * - DATETIME 컬럼은 초 단위까지만 저장하므로 같은 정밀도로 잘라서 사용
+   * - 서비스에서 정한 값을 그대로 저장하면, 다시 조회하지 않고 만든 응답이 DB 값(ETag 포함)과 같음
+   */
+  public static Date now() {
+    return Date.from(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+  }
+}
@@ -0,0 +1,88 @@
+package org.scoula.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+public class TransactionCallbacks {
+  /**
+   * 현재 트랜잭션이 커밋된 후 작업 실행
+   * - 트랜잭션 밖에서 호출되면 즉시 실행
+   * - 롤백되면 실행되지 않음
+   * @param action 커밋 후 실행할 작업
+   */
+  public static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  /**
+   * 현재 트랜잭션이 끝난 후(커밋/롤백 모두) 작업 실행
+   * - 트랜잭션 밖에서 호출되면 즉시 실행
+   * @param action 트랜잭션 종료 후 실행할 작업
+   */
+  public static void afterCompletion(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        action.run();
+      }
+    });
+  }
+
+  /**
+   * 현재 트랜잭션이 끝난 후(커밋/롤백 모두) 커밋 여부와 함께 작업 실행
+   * - 트랜잭션 밖에서 호출되면 커밋된 것으로 보고 즉시 실행
+   * @param action 커밋 여부(true: 커밋, false: 롤백)를 받아 실행할 작업
+   */
+  public static void whenComplete(Consumer<Boolean> action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.accept(true);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        action.accept(status == STATUS_COMMITTED);
+      }
+    });
+  }
+
+  /**
+   * 현재 트랜잭션이 롤백된 후 작업 실행 (보상 처리용)
+   * - 트랜잭션 밖에서 호출되면 아무것도 하지 않음
+   * @param action 롤백 후 실행할 작업
+   * @return 작업이 등록되었으면 true (트랜잭션 중이었음)
+   */
+  public static boolean afterRollback(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return false;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status == STATUS_ROLLED_BACK) {
+          action.run();
+        }
+      }
+    });
+    return true;
+  }
+}
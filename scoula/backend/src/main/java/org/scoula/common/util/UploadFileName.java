@@ -1,6 +1,11 @@
 package org.scoula.common.util;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 public class UploadFileName {
+  // 마지막으로 사용한 timestamp - 같은 밀리초에 여러 파일이 저장되어도 겹치지 않도록 증가만 허용
+  private static final AtomicLong lastStamp = new AtomicLong();
+
   /**
    * 고유한 파일명을 생성하는 메서드
    * @param filename 원본 파일명
@@ -9,10 +14,16 @@ public class UploadFileName {
   public static String getUniqueName(String filename) {
     // 파일명과 확장자를 분리 - image.jpg
     int ix = filename.lastIndexOf(".");
+    if (ix < 0) {
+      ix = filename.length();                       // 확장자가 없는 파일
+    }
     String name = filename.substring(0, ix);        // 파일명 부분 추출
-    String ext = filename.substring(ix + 1);        // 확장자 부분 추출
+    String ext = ix < filename.length() ? filename.substring(ix + 1) : "";  // 확장자 부분 추출
 
-    // 현재 시간을 밀리초로 변환하여 고유성 보장
-    return String.format("%s-%d.%s", name, System.currentTimeMillis(), ext);
+    // 현재 시간을 밀리초로 변환하여 고유성 보장 (동시 저장 시에도 값이 겹치지 않음)
+    long stamp = lastStamp.updateAndGet(last -> Math.max(last + 1, System.currentTimeMillis()));
+    return ext.isEmpty()
+            ? String.format("%s-%d", name, stamp)
+            : String.format("%s-%d.%s", name, stamp, ext);
   }
 }
\ No newline at end of file
@@ -1,18 +1,27 @@
 package org.scoula.common.util;
 
+import lombok.extern.log4j.Log4j2;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
 import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.DecimalFormat;
+import java.util.HexFormat;
+import java.util.List;
 
+@Log4j2
 public class UploadFiles {
   /**
    * 파일을 지정된 디렉토리에 업로드하는 메서드
@@ -41,6 +50,148 @@ public class UploadFiles {
     return dest.getPath();
   }
 
+  // 스트리밍 저장 시 사용하는 고정 버퍼 크기
+  private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * 멀티파트 파일 파트를 지정된 디렉토리에 스트리밍 방식으로 업로드
+   * - 파트 본문을 고정 크기 버퍼로 읽어 최종 위치에 바로 기록 (메모리/임시 파일 적재 없음)
+   * @param baseDir 기본 저장 디렉토리
+   * @param part 파일 파트
+   * @param maxSize 허용 최대 크기
+   * @return 저장된 파일 정보 (크기, SHA-256 포함)
+   * @throws IOException 파일 처리 중 오류 발생 시
+   */
+  public static UploadedFile upload(String baseDir, MultipartStream.Part part, long maxSize)
+          throws IOException {
+    File base = new File(baseDir);
+    if (!base.exists()) {
+      base.mkdirs();
+    }
+
+    File dest = new File(baseDir, UploadFileName.getUniqueName(part.getFilename()));
+    UploadedFile uploaded = write(part.getBody(), dest, maxSize);
+    uploaded.setFilename(part.getFilename());
+    uploaded.setContentType(part.getContentType());
+    return uploaded;
+  }
+
+  /**
+   * 요청 본문을 스트리밍 멀티파트로 열기
+   * - 서블릿 컨테이너의 멀티파트 처리(메모리/임시 파일 버퍼링)를 거치지 않고 본문을 직접 읽음
+   * @param request multipart/form-data 요청
+   * @return 파트 단위로 읽을 수 있는 MultipartStream
+   * @throws IllegalArgumentException multipart 요청이 아닌 경우
+   */
+  public static MultipartStream openMultipart(HttpServletRequest request) throws IOException {
+    String boundary = MultipartStream.boundaryOf(request.getContentType());
+    if (boundary == null) {
+      throw new IllegalArgumentException("multipart/form-data 요청이 아닙니다.");
+    }
+    return new MultipartStream(request.getInputStream(), boundary, STREAM_BUFFER_SIZE);
+  }
+
+  /**
+   * 쿼리스트링에서 파라미터 값 읽기 (요청 파라미터 맵을 사용하지 않음)
+   * - multipart 요청에서 getParameter*()나 @RequestParam을 사용하면 컨테이너가 본문 전체를 파싱하므로,
+   *   openMultipart()로 본문을 직접 읽는 API는 이 메서드로 옵션을 읽어야 함
+   * @param request HTTP 요청
+   * @param name 파라미터 이름
+   * @return 첫 번째 값 (없으면 null)
+   */
+  public static String getQueryParameter(HttpServletRequest request, String name) {
+    String query = request.getQueryString();
+    if (query == null) {
+      return null;
+    }
+    for (String pair : query.split("&")) {
+      int eq = pair.indexOf('=');
+      String key = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+      if (key.equals(name)) {
+        return eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * 스트림을 파일에 기록하면서 크기와 SHA-256을 계산
+   * - 최대 크기를 넘거나 실패하면 기록 중이던 파일을 삭제
+   * @param in 원본 스트림
+   * @param dest 저장할 파일
+   * @param maxSize 허용 최대 크기
+   * @return 저장된 파일 정보 (경로, 크기, SHA-256)
+   * @throws IOException 파일 처리 중 오류 발생 시
+   * @throws IllegalArgumentException 최대 크기를 넘는 경우
+   */
+  public static UploadedFile write(InputStream in, File dest, long maxSize) throws IOException {
+    UploadedFile written;
+    try (OutputStream out = Files.newOutputStream(dest.toPath())) {
+      written = copy(in, out, maxSize);
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(dest.toPath());   // 기록 중이던 파일 정리
+      throw e;
+    }
+    written.setPath(dest.getPath());
+    return written;
+  }
+
+  /**
+   * 스트림을 끝까지 읽으며 크기와 SHA-256만 계산 (파일 기록 없음)
+   * @param in 원본 스트림
+   * @param maxSize 허용 최대 크기
+   * @return 크기와 SHA-256만 설정된 파일 정보
+   * @throws IOException 읽기 실패 시
+   * @throws IllegalArgumentException 최대 크기를 넘는 경우
+   */
+  public static UploadedFile digest(InputStream in, long maxSize) throws IOException {
+    return copy(in, OutputStream.nullOutputStream(), maxSize);
+  }
+
+  // 고정 크기 버퍼로 복사하면서 크기와 SHA-256 계산
+  private static UploadedFile copy(InputStream in, OutputStream out, long maxSize) throws IOException {
+    MessageDigest digest = sha256();
+    byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+    long size = 0;
+
+    for (int n; (n = in.read(buffer)) >= 0; ) {
+      size += n;
+      if (size > maxSize) {
+        throw new IllegalArgumentException("업로드 가능한 최대 크기를 넘었습니다: " + getFormatSize(maxSize));
+      }
+      digest.update(buffer, 0, n);
+      out.write(buffer, 0, n);
+    }
+
+    return UploadedFile.builder()
+            .size(size)
+            .sha256(HexFormat.of().formatHex(digest.digest()))
+            .build();
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);   // 모든 JVM에서 지원하는 알고리즘
+    }
+  }
+
+  /**
+   * 저장된 파일들을 삭제 (보상 처리용, 실패해도 예외를 던지지 않음)
+   * @param paths 삭제할 파일 경로 목록
+   */
+  public static void deleteQuietly(List<String> paths) {
+    for (String path : paths) {
+      try {
+        Files.deleteIfExists(Paths.get(path));
+      } catch (IOException e) {
+        // 남은 파일은 고아 파일로 남음 - 로그 외에 할 수 있는 일이 없음
+        log.warn("파일 삭제 실패: " + path + " - " + e.getMessage());
+      }
+    }
+  }
+
   /**
    * 파일 크기를 사용자 친화적 형태로 변환
    * @param size 바이트 단위 파일 크기
@@ -58,32 +209,19 @@ public class UploadFiles {
 
   /**
    * 파일 다운로드 처리
+   * - Range 요청(이어받기, 부분 다운로드)을 지원하며 FileTransfer로 전송
+   * @param request HTTP 요청 객체
    * @param response HTTP 응답 객체
    * @param file 다운로드할 파일
    * @param orgName 원본 파일명 (다운로드 시 표시될 이름)
-   * @throws Exception
+   * @throws IOException 전송 중 오류 발생 시
    */
-  public static void download(HttpServletResponse response, File file, String orgName)
-          throws Exception {
-
-    /* *** 응답 헤더 설정 *** */
-
-    // application/download
-    // - 범용 다운로드 타입을 나타내는 MIME TYPE
-    // - 브라우저가 미리보기를 시도하지 않고 다운로드 시도
-    response.setContentType("application/download");
-
-
-    // Content-Length
-    // - 브라우저에게 전송될 데이터의 크기를 미리 알려주는 중요 응답 헤더
-    // - 다운로드 진행율 표시 가능, 연결 최적화(HTTP Keep-Alive), 브라우저 메모리 최적화
-    response.setContentLength((int) file.length());
-
+  public static void download(HttpServletRequest request, HttpServletResponse response,
+                              File file, String orgName) throws IOException {
 
     // 한글 파일명 인코딩 (UTF-8)
     String filename = URLEncoder.encode(orgName, "UTF-8");
 
-
     // Content-disposition
     // - 브라우저가 응답을 어떻게 처리하지 지정하는 HTTP 헤더
 
@@ -92,29 +230,25 @@ public class UploadFiles {
     response.setHeader("Content-disposition",
             "attachment;filename=\"" + filename + "\"");
 
-    // 파일 스트림을 응답으로 전송
-    try (OutputStream os = response.getOutputStream();
-         BufferedOutputStream bos = new BufferedOutputStream(os)) {
-
-      Files.copy(Paths.get(file.getPath()), bos);
-    }
+    // application/download
+    // - 범용 다운로드 타입을 나타내는 MIME TYPE
+    // - 브라우저가 미리보기를 시도하지 않고 다운로드 시도
+    FileTransfer.send(request, response, file, "application/download");
   }
 
-  public static void downloadImage(HttpServletResponse response, File file) {
+  /**
+   * 이미지 파일 응답 처리 (Range 요청 지원)
+   * @param request HTTP 요청 객체
+   * @param response HTTP 응답 객체
+   * @param file 이미지 파일
+   */
+  public static void downloadImage(HttpServletRequest request, HttpServletResponse response, File file) {
     try {
-      Path path = Path.of(file.getPath());
-      String mimeType = Files.probeContentType(path);        // MIME 타입 자동 감지
-
-      response.setContentType(mimeType);                     // Content-Type 설정
-      response.setContentLength((int) file.length());        // Content-Length 설정
-
-      // 파일을 응답 스트림으로 복사
-      try (OutputStream os = response.getOutputStream();
-           BufferedOutputStream bos = new BufferedOutputStream(os)) {
-        Files.copy(path, bos);
-      }
-    } catch (Exception e) {
-      throw new RuntimeException(e);
+      String mimeType = Files.probeContentType(file.toPath());   // MIME 타입 자동 감지
+      FileTransfer.send(request, response, file,
+              mimeType != null ? mimeType : "application/octet-stream");
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
     }
   }
 }
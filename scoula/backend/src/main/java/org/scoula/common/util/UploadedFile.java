@@ -0,0 +1,22 @@
+package org.scoula.common.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스트리밍 방식으로 저장된 업로드 파일 정보
+ * - 저장하면서 함께 계산한 크기와 체크섬을 담음
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadedFile {
+  private String filename;      // 원본 파일명
+  private String path;          // 서버 저장 경로
+  private String contentType;   // MIME 타입
+  private long size;            // 파일 크기
+  private String sha256;        // SHA-256 체크섬 (16진수)
+}
@@ -0,0 +1,101 @@
+package org.scoula.common.util;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 기록(write-behind) 조회수 카운터
+ * - 조회할 때마다 UPDATE 하면 인기 글의 같은 행 잠금에서 요청이 줄을 서므로, 메모리에서 세고 주기적으로 한 번에 기록
+ * - id별 LongAdder를 사용하여 같은 글을 동시에 조회해도 스레드 간 경합이 적음
+ * - 기록에 실패하면 센 값을 되돌려 다음 주기에 다시 기록
+ * - 종료 시(destroy) 아직 기록하지 않은 값을 모두 기록
+ *
+ * 하위 클래스)
+ *   write(): 모은 조회수를 DB에 반영 (한 번의 일괄 upsert)
+ *   주기 실행은 하위 클래스에서 @Scheduled로 flush() 호출
+ */
+@Log4j2
+public abstract class ViewCounter implements DisposableBean {
+
+  // 한 번의 기록에 담는 최대 id 수 (SQL 문장이 너무 커지지 않도록)
+  private static final int WRITE_BATCH = 1000;
+
+  private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+  /**
+   * 조회수 1 증가 (메모리에만 반영)
+   * @param id 대상 번호
+   */
+  public void increment(Long id) {
+    pending.computeIfAbsent(id, key -> new LongAdder()).increment();
+  }
+
+  /**
+   * 아직 DB에 기록하지 않은 조회수
+   * @param id 대상 번호
+   */
+  public long getPending(Long id) {
+    LongAdder adder = pending.get(id);
+    return adder == null ? 0 : adder.sum();
+  }
+
+  /**
+   * 모은 조회수를 DB에 기록
+   * - 주기 작업과 종료 처리가 겹치지 않도록 한 번에 하나만 실행
+   * @return 기록한 id 수
+   */
+  public synchronized int flush() {
+    List<Map.Entry<Long, Long>> counts = new ArrayList<>(drain().entrySet());
+    int written = 0;
+    try {
+      for (; written < counts.size(); written += WRITE_BATCH) {
+        Map<Long, Long> batch = new HashMap<>();
+        counts.subList(written, Math.min(written + WRITE_BATCH, counts.size()))
+                .forEach(entry -> batch.put(entry.getKey(), entry.getValue()));
+        write(batch);
+      }
+      return counts.size();
+    } catch (RuntimeException e) {
+      // 기록하지 못한 값(실패한 배치부터)을 되돌려 다음 주기에 다시 시도
+      List<Map.Entry<Long, Long>> failed = counts.subList(written, counts.size());
+      failed.forEach(entry -> pending.computeIfAbsent(entry.getKey(), key -> new LongAdder()).add(entry.getValue()));
+      log.error("조회수 기록 실패 (" + failed.size() + "건 보류): " + e.getMessage(), e);
+      return written;
+    }
+  }
+
+  /**
+   * 조회수를 DB에 반영
+   * @param counts id → 더할 조회수 (최대 1000건)
+   */
+  protected abstract void write(Map<Long, Long> counts);
+
+  @Override
+  public void destroy() {
+    int written = flush();
+    log.info(getClass().getSimpleName() + " 종료 - 남은 조회수 기록: " + written + "건");
+  }
+
+  // 센 값을 꺼내고 0으로 초기화 (센 값이 없는 id는 제거)
+  private Map<Long, Long> drain() {
+    Map<Long, Long> counts = new HashMap<>();
+    for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+      LongAdder adder = entry.getValue();
+      long count = adder.sumThenReset();
+      if (count == 0 && pending.remove(entry.getKey(), adder)) {
+        count = adder.sumThenReset();   // 제거하는 사이 들어온 증가분
+      }
+      if (count > 0) {
+        counts.put(entry.getKey(), count);
+      }
+    }
+    return counts;
+  }
+}
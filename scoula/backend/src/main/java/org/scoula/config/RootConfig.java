@@ -1,32 +1,53 @@
 package org.scoula.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.log4j.Log4j2;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.mybatis.spring.SqlSessionFactoryBean;
 import org.mybatis.spring.annotation.MapperScan;
+import org.scoula.common.datasource.ReplicaRoutingDataSource;
+import org.scoula.common.util.OrphanReaper;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.sql.DataSource;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 🌱 Root Application Context 설정 클래스
  * - Spring Framework의 최상위(Root) 애플리케이션 컨텍스트를 설정하는 클래스
  * - 웹 계층과 무관한 비즈니스 로직, 서비스, 데이터 액세스 계층의 Bean들을 관리
  */
+@Log4j2
 @Configuration
 @PropertySource({"classpath:/application.properties"})
 @MapperScan(basePackages = {"org.scoula.board.mapper", "org.scoula.member.mapper",  "org.scoula.travel.mapper"}) // Mapper 인터페이스 스캔 설정
 @ComponentScan(basePackages = {"org.scoula.board.service", "org.scoula.member.service", "org.scoula.travel.service"})
 @EnableTransactionManagement
+@EnableScheduling    // @Scheduled 주기 작업 활성화
 public class RootConfig {
 
   // 현재는 기본 설정만 있는 상태
@@ -52,30 +73,92 @@ public class RootConfig {
 
 
   /**
-   * HikariCP 커넥션 풀을 사용한 DataSource 빈 생성
+   * HikariCP 커넥션 풀을 사용한 원본(primary) DataSource 빈 생성
+   * - 쓰기와 일반 트랜잭션, 트랜잭션 밖의 호출이 사용
    *
    * @return 설정된 DataSource 객체
    */
   @Bean
-  public DataSource dataSource() {
+  public HikariDataSource primaryDataSource() {
+    return createPool("primary", url, username, password, 10);
+  }
+
+  /**
+   * 복제본(replica) DataSource 빈 생성
+   * - 읽기 전용 트랜잭션이 사용
+   * - jdbc.replica.url이 설정된 경우에만 생성 (없으면 원본 DB에 두 번째 풀을 열지 않음)
+   */
+  @Bean
+  @Conditional(ReplicaConfigured.class)
+  public HikariDataSource replicaDataSource(@Value("${jdbc.replica.url}") String replicaUrl,
+                                            @Value("${jdbc.replica.username:${jdbc.username}}") String replicaUsername,
+                                            @Value("${jdbc.replica.password:${jdbc.password}}") String replicaPassword,
+                                            @Value("${jdbc.replica.pool-size:10}") int poolSize) {
+    return createPool("replica", replicaUrl, replicaUsername, replicaPassword, poolSize);
+  }
+
+  /**
+   * 읽기/쓰기 분리 DataSource
+   * - 읽기 전용 트랜잭션은 복제본, 나머지는 원본으로 보냄
+   * - 복제 지연이 max-lag(초)를 넘거나 복제본에 연결할 수 없으면 원본으로 대체
+   * - 복제본이 설정된 경우에만 생성
+   */
+  @Bean
+  @Conditional(ReplicaConfigured.class)
+  public ReplicaRoutingDataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                    @Qualifier("replicaDataSource") DataSource replica,
+                                                    @Value("${jdbc.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+                                                    @Value("${jdbc.replica.max-lag:5}") long maxLagSeconds) {
+    return new ReplicaRoutingDataSource(primary, replica, lagQuery, maxLagSeconds);
+  }
+
+  /**
+   * 애플리케이션이 사용하는 DataSource
+   * - 복제본이 있으면 실제 연결을 첫 SQL 실행 시점까지 미뤄, 트랜잭션의 읽기 전용 여부가 정해진 뒤 대상을 고르도록 함
+   * - 복제본이 없으면 원본 풀을 그대로 사용
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                               ObjectProvider<ReplicaRoutingDataSource> routingDataSource) {
+    ReplicaRoutingDataSource routing = routingDataSource.getIfAvailable();
+    if (routing == null) {
+      log.info("복제본 설정(jdbc.replica.url) 없음 - 모든 연결을 원본으로 보냄");
+      return primary;
+    }
+    return new LazyConnectionDataSourceProxy(routing);
+  }
+
+  // jdbc.replica.url이 설정되어 있는지 (복제본 풀/라우팅 빈 생성 조건)
+  static class ReplicaConfigured implements Condition {
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+      String url = context.getEnvironment().getProperty("jdbc.replica.url");
+      return url != null && !url.isBlank();
+    }
+  }
+
+  // HikariCP 커넥션 풀 생성
+  private HikariDataSource createPool(String name, String jdbcUrl, String user, String pass, int poolSize) {
     // HikariCP 설정 객체 생성
     HikariConfig config = new HikariConfig();
+    config.setPoolName(name);                  // 메트릭/로그에 표시될 풀 이름
+    config.setRegisterMbeans(true);            // JMX로 풀 상태 노출
 
     // 데이터베이스 연결 정보 설정
     config.setDriverClassName(driver);          // JDBC 드라이버 클래스
-    config.setJdbcUrl(url);                    // 데이터베이스 URL
-    config.setUsername(username);              // 사용자명
-    config.setPassword(password);              // 비밀번호
+    config.setJdbcUrl(jdbcUrl);                // 데이터베이스 URL
+    config.setUsername(user);                  // 사용자명
+    config.setPassword(pass);                  // 비밀번호
 
     // 커넥션 풀 추가 설정 (선택사항)
-    config.setMaximumPoolSize(10);             // 최대 커넥션 수
-    config.setMinimumIdle(5);                  // 최소 유지 커넥션 수
+    config.setMaximumPoolSize(poolSize);       // 최대 커넥션 수
+    config.setMinimumIdle(Math.min(5, poolSize));  // 최소 유지 커넥션 수
     config.setConnectionTimeout(30000);       // 연결 타임아웃 (30초)
     config.setIdleTimeout(600000);            // 유휴 타임아웃 (10분)
 
     // HikariDataSource 생성 및 반환
-    HikariDataSource dataSource = new HikariDataSource(config);
-    return dataSource;
+    return new HikariDataSource(config);
   }
 
   /**
@@ -107,4 +190,92 @@ public class RootConfig {
     return manager;
   }
 
+  /**
+   * 프로그래밍 방식 트랜잭션 템플릿
+   * - 파일 I/O 등 트랜잭션 밖에서 할 작업과 DB 작업의 경계를 메서드 안에서 직접 나눌 때 사용
+   */
+  @Bean
+  @Primary
+  public TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+    return new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * 읽기 전용 트랜잭션 템플릿
+   * - 커서로 대량 조회하는 동안 연결을 붙잡아 두기 위한 용도 (쓰기 없음)
+   */
+  @Bean
+  public TransactionTemplate readOnlyTransactionTemplate(PlatformTransactionManager transactionManager) {
+    TransactionTemplate template = new TransactionTemplate(transactionManager);
+    template.setReadOnly(true);
+    return template;
+  }
+
+  /**
+   * 공유 JSON 직렬화 설정
+   * - MVC 응답(ServletConfig의 메시지 컨버터)과 서비스 계층의 직접 직렬화(NDJSON 내보내기 등)가 같은 설정을 사용
+   */
+  @Bean
+  public ObjectMapper objectMapper() {
+    return Jackson2ObjectMapperBuilder.json().build();
+  }
+
+  /**
+   * 주기 작업(@Scheduled) 실행용 스케줄러
+   * - 기본 단일 스레드 대신 작은 풀을 사용해 한 작업이 길어져도 다른 작업이 밀리지 않도록 함
+   */
+  @Bean
+  public ThreadPoolTaskScheduler taskScheduler() {
+    ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(4);
+    scheduler.setThreadNamePrefix("scheduler-");
+    scheduler.setWaitForTasksToCompleteOnShutdown(true);
+    return scheduler;
+  }
+
+  /**
+   * 업로드 파일 저장용 I/O 스레드 풀
+   * - 한 요청의 여러 첨부파일을 동시에 디스크에 기록
+   * - 큐가 가득 차면 요청 스레드가 직접 실행(CallerRuns)하여 무한정 쌓이지 않도록 제한
+   */
+  @Bean
+  public ThreadPoolTaskExecutor uploadExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(4);
+    executor.setMaxPoolSize(8);
+    executor.setQueueCapacity(64);
+    executor.setThreadNamePrefix("upload-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    return executor;
+  }
+
+  /**
+   * 썸네일 생성용 백그라운드 풀
+   * - 이미지 디코딩은 CPU/메모리를 많이 쓰므로 스레드 수를 작게 고정
+   * - 큐가 가득 차면 작업을 거절(생성 건너뜀)하여 요청 처리에 영향을 주지 않음
+   */
+  @Bean
+  public ThreadPoolTaskExecutor thumbnailExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(2);
+    executor.setMaxPoolSize(2);
+    executor.setQueueCapacity(256);
+    executor.setThreadNamePrefix("thumbnail-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    return executor;
+  }
+
+  /**
+   * 고아 파일 정리기 (게시글 첨부파일, 아바타 정리 작업에서 공용)
+   */
+  @Bean
+  public OrphanReaper orphanReaper(@Value("${upload.reaper.dry-run:false}") boolean dryRun,
+                                   @Value("${upload.reaper.min-age:86400000}") long minAgeMillis,
+                                   @Value("${upload.reaper.max-per-run:10000}") int maxPerRun,
+                                   @Value("${upload.reaper.batch-size:100}") int batchSize,
+                                   @Value("${upload.reaper.batch-delay:1000}") long batchDelayMillis) {
+    return new OrphanReaper(dryRun, minAgeMillis, maxPerRun, batchSize, batchDelayMillis);
+  }
+
 }
@@ -1,13 +1,19 @@
 package org.scoula.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.multipart.MultipartResolver;
 import org.springframework.web.multipart.support.StandardServletMultipartResolver;
 import org.springframework.web.servlet.config.annotation.*;
 import org.springframework.web.servlet.view.InternalResourceViewResolver;
 import org.springframework.web.servlet.view.JstlView;
 
+import java.util.List;
+
 @EnableWebMvc
 @ComponentScan(basePackages = {
         "org.scoula.exception",
@@ -17,6 +23,17 @@ import org.springframework.web.servlet.view.JstlView;
         "org.scoula.travel.controller"
 }) // Spring MVC용 컴포넌트 등록을 위한 스캔 패키지
 public class ServletConfig implements WebMvcConfigurer {
+    // Root 컨텍스트의 공유 ObjectMapper (서비스 계층의 직접 직렬화와 응답 JSON 설정을 맞춤)
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.stream()
+                .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+                .forEach(converter -> ((MappingJackson2HttpMessageConverter) converter).setObjectMapper(objectMapper));
+    }
+
     // "/" 요청에 대해 /index.html 로 포워드
     @Override
     public void addViewControllers(ViewControllerRegistry registry) {
@@ -54,6 +71,9 @@ public class ServletConfig implements WebMvcConfigurer {
     public MultipartResolver multipartResolver() {
         StandardServletMultipartResolver resolver =
                 new StandardServletMultipartResolver();
+        // 파트에 실제로 접근할 때만 컨테이너가 멀티파트를 파싱하도록 지연
+        // - 스트리밍 업로드 API는 요청 본문을 직접 읽어야 하므로 미리 파싱되면 안 됨
+        resolver.setResolveLazily(true);
         return resolver;
     }
 
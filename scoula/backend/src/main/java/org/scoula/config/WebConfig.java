@@ -124,7 +124,7 @@ public class WebConfig extends AbstractAnnotationConfigDispatcherServletInitiali
     final String LOCATION = "c:/upload";
     final long MAX_FILE_SIZE = 1024 * 1024 * 10L;      // 10MB
     final long MAX_REQUEST_SIZE = 1024 * 1024 * 20L;   // 20MB
-    final int FILE_SIZE_THRESHOLD = 1024 * 1024 * 5;   // 5MB
+    final int FILE_SIZE_THRESHOLD = 1024 * 64;         // 64KB (넘으면 임시 파일로 기록, 힙에 오래 두지 않음)
 
 
     @Override
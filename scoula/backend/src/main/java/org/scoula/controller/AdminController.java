@@ -0,0 +1,41 @@
+package org.scoula.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.scoula.board.service.BoardFileReaper;
+import org.scoula.common.util.OrphanReaper;
+import org.scoula.member.service.AvatarFileReaper;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 관리자 API (ROLE_ADMIN 권한 필요 - SecurityConfig)
+ */
+@Slf4j
+@RequestMapping("/api/admin")
+@RestController
+@RequiredArgsConstructor
+public class AdminController {
+
+  private final BoardFileReaper boardFileReaper;
+  private final AvatarFileReaper avatarFileReaper;
+
+  /**
+   * 고아 파일 정리 작업의 마지막 실행 결과
+   * GET: http://localhost:8080/api/admin/reaper
+   * - 대상별 검사/고아/삭제/실패 파일 수, 용량, 소요 시간 (아직 실행되지 않은 대상은 빠짐)
+   */
+  @GetMapping("/reaper")
+  public ResponseEntity<List<OrphanReaper.Report>> getReaperReports() {
+    List<OrphanReaper.Report> reports = new ArrayList<>(boardFileReaper.getLastReports());
+    if (avatarFileReaper.getLastReport() != null) {
+      reports.add(avatarFileReaper.getLastReport());
+    }
+    return ResponseEntity.ok(reports);
+  }
+}
@@ -8,12 +8,17 @@ import org.scoula.member.dto.MemberDTO;
 import org.scoula.member.dto.MemberJoinDTO;
 import org.scoula.member.dto.MemberUpdateDTO;
 import org.scoula.member.service.MemberService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import java.io.File;
+import java.io.IOException;
+import java.security.Principal;
 
 @Log4j2
 @RestController
@@ -27,14 +32,18 @@ public class MemberController {
         return ResponseEntity.ok().body(service.checkDuplicate(username));
     }
 
+    // 응답은 저장한 값으로 구성, refresh=true면 저장 후 DB에서 다시 조회한 값 반환
     @PostMapping("")
-    public ResponseEntity<MemberDTO> join(MemberJoinDTO member) {
-        return ResponseEntity.ok(service.join(member));
+    public ResponseEntity<MemberDTO> join(MemberJoinDTO member,
+                                          @RequestParam(value = "refresh", defaultValue = "false") boolean refresh) {
+        MemberDTO joined = service.join(member);
+        return ResponseEntity.ok(refresh ? service.get(joined.getUsername()) : joined);
     }
 
     // MemberController.java
     @GetMapping("/{username}/avatar")
-    public void getAvatar(@PathVariable String username, HttpServletResponse response) {
+    public void getAvatar(@PathVariable String username, HttpServletRequest request,
+                          HttpServletResponse response) {
         String avatarPath = "c:/upload/avatar/" + username + ".png";
         File file = new File(avatarPath);
 
@@ -43,12 +52,28 @@ public class MemberController {
             file = new File("C:/upload/avatar/unknown.png");
         }
 
-        UploadFiles.downloadImage(response, file);
+        UploadFiles.downloadImage(request, response, file);
     }
 
     @PutMapping("/{username}")
-    public ResponseEntity<MemberDTO> changeProfile(MemberUpdateDTO member) {
-        return ResponseEntity.ok(service.update(member));
+    public ResponseEntity<MemberDTO> changeProfile(MemberUpdateDTO member,
+                                                   @RequestParam(value = "refresh", defaultValue = "false") boolean refresh) {
+        MemberDTO updated = service.update(member);
+        return ResponseEntity.ok(refresh ? service.get(updated.getUsername()) : updated);
+    }
+
+    // 아바타 변경 (스트리밍 업로드, multipart/form-data: avatar)
+    // 본인 아바타만 변경 가능 (로그인 사용자와 다르면 본문을 읽지 않고 403)
+    @PutMapping(value = "/{username}/avatar", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> changeAvatar(@PathVariable String username, HttpServletRequest request,
+                                          Principal principal) throws IOException {
+        if (principal == null || !username.equals(principal.getName())) {
+            log.warn("다른 회원의 아바타 변경 시도: " + username + " (요청자: "
+                    + (principal != null ? principal.getName() : null) + ")");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        service.saveAvatar(username, UploadFiles.openMultipart(request));
+        return ResponseEntity.ok().build();
     }
 
     @PutMapping("/{username}/changepassword")
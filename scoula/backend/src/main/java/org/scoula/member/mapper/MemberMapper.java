@@ -1,5 +1,6 @@
 package org.scoula.member.mapper;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.scoula.member.dto.ChangePasswordDTO;
 import org.scoula.security.account.domain.AuthVO;
 import org.scoula.security.account.domain.MemberVO;
@@ -16,4 +17,6 @@ public interface MemberMapper {
     int update(MemberVO member);
 
     int updatePassword(ChangePasswordDTO changePasswordDTO);
+
+    Cursor<String> getAvatarNameCursor(); // 고아 아바타 정리용 - 회원별 아바타 파일명 (binary 정렬)
 }
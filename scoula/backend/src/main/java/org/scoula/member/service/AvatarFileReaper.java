@@ -0,0 +1,68 @@
+package org.scoula.member.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.ibatis.cursor.Cursor;
+import org.scoula.common.util.OrphanReaper;
+import org.scoula.member.mapper.MemberMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 아바타 고아 파일 정리 작업
+ * - c:/upload/avatar 아래 파일 ↔ 회원별 아바타 파일명(username.png)
+ * - 기본 이미지(unknown.png)는 제외, 업로드 중 남은 임시 파일(.part)은 최소 보관 시간이 지나면 삭제
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class AvatarFileReaper {
+
+    private static final String DEFAULT_AVATAR = "unknown.png";
+
+    private final MemberMapper mapper;
+    private final OrphanReaper reaper;
+    private final TransactionTemplate transactionTemplate;
+
+    // 마지막 실행 결과 (메트릭 조회용)
+    private volatile OrphanReaper.Report lastReport;
+
+    @Scheduled(fixedDelayString = "${upload.reaper.interval:3600000}",
+               initialDelayString = "${upload.reaper.interval:3600000}")
+    public void run() {
+        try {
+            OrphanReaper.Report report = reaper.newReport("avatar");
+            List<File> orphans = new ArrayList<>();
+
+            // 1. 커서가 열려 있는 동안 병합하여 고아 파일 수집
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Cursor<String> cursor = mapper.getAvatarNameCursor()) {
+                    reaper.collect(report,
+                            OrphanReaper.sortedFiles(new File(MemberServiceImpl.AVATAR_DIR),
+                                    file -> !DEFAULT_AVATAR.equals(file.getName())),
+                            File::getName, cursor.iterator(), orphans);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            // 2. 배치 단위로 삭제
+            reaper.delete(report, orphans, File::delete);
+            lastReport = reaper.finish(report);
+        } catch (RuntimeException e) {
+            log.error("아바타 고아 파일 정리 실패: " + e.getMessage(), e);
+        }
+    }
+
+    // 마지막 실행 결과
+    public OrphanReaper.Report getLastReport() {
+        return lastReport;
+    }
+}
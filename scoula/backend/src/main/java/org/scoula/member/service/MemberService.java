@@ -1,5 +1,6 @@
 package org.scoula.member.service;
 
+import org.scoula.common.util.MultipartStream;
 import org.scoula.member.dto.ChangePasswordDTO;
 import org.scoula.member.dto.MemberDTO;
 import org.scoula.member.dto.MemberJoinDTO;
@@ -15,4 +16,6 @@ public interface MemberService {
     MemberDTO update(MemberUpdateDTO member);
 
     void changePassword(ChangePasswordDTO changePassword);
+
+    void saveAvatar(String username, MultipartStream multipart);
 }
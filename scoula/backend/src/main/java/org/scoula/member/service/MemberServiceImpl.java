@@ -2,6 +2,10 @@ package org.scoula.member.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.scoula.common.util.MultipartStream;
+import org.scoula.common.util.Timestamps;
+import org.scoula.common.util.UploadFiles;
+import org.scoula.common.util.UploadedFile;
 import org.scoula.member.dto.ChangePasswordDTO;
 import org.scoula.member.dto.MemberDTO;
 import org.scoula.member.dto.MemberJoinDTO;
@@ -10,15 +14,21 @@ import org.scoula.member.exception.PasswordMissmatchException;
 import org.scoula.member.mapper.MemberMapper;
 import org.scoula.security.account.domain.AuthVO;
 import org.scoula.security.account.domain.MemberVO;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Date;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 
 @Log4j2
 @Service
@@ -27,12 +37,21 @@ public class MemberServiceImpl implements MemberService {
     final PasswordEncoder passwordEncoder;
     final MemberMapper mapper;
 
+    // 아바타 저장 디렉토리
+    static final String AVATAR_DIR = "c:/upload/avatar";
+
+    // 아바타 이미지 최대 크기
+    @Value("${upload.avatar.max-size:5242880}")
+    private long maxAvatarSize;
+
+    @Transactional(readOnly = true)   // 읽기 전용 - 복제본에서 조회 (중복이면 가입 시 키 제약으로도 걸러짐)
     @Override
     public boolean checkDuplicate(String username) {
         MemberVO member = mapper.findByUsername(username);
         return member != null ? true : false;
     }
 
+    // 트랜잭션 없이 원본에서 조회 - 가입/수정 직후 최신 값(refresh=true)을 읽으므로 복제 지연이 있으면 안 됨
     @Override
     public MemberDTO get(String username) {
         MemberVO member = Optional.ofNullable(mapper.get(username))
@@ -44,7 +63,7 @@ public class MemberServiceImpl implements MemberService {
     private void saveAvatar(MultipartFile avatar, String username) {
         //아바타 업로드
         if(avatar != null && !avatar.isEmpty()) {
-            File dest = new File("c:/upload/avatar", username + ".png");
+            File dest = new File(AVATAR_DIR, username + ".png");
             try {
                 avatar.transferTo(dest);
             } catch (IOException e) {
@@ -63,6 +82,9 @@ public class MemberServiceImpl implements MemberService {
     @Override
     public MemberDTO join(MemberJoinDTO dto) {
         MemberVO member = dto.toVO();
+        Date now = Timestamps.now();
+        member.setRegDate(now);
+        member.setUpdateDate(now);
 
         member.setPassword(passwordEncoder.encode(member.getPassword())); // 비밀번호 암호화
         // equals 불가능, matches 사용해야함
@@ -77,20 +99,30 @@ public class MemberServiceImpl implements MemberService {
         
         // 하나라도 예외 발생하면 안됨 -> @Transactional 처리
 
-        return get(member.getUsername());
+        // 다시 조회하지 않고 저장한 값으로 응답 구성
+        member.setAuthList(List.of(auth));
+        return MemberDTO.of(member);
     }
 
+    @Transactional   // 비밀번호 확인과 수정을 원본의 한 트랜잭션에서 처리
     @Override
     public MemberDTO update(MemberUpdateDTO member) {
         MemberVO vo = mapper.get(member.getUsername());
         if(!passwordEncoder.matches(member.getPassword(),vo.getPassword())) { // 비밀번호 일치 확인
             throw new PasswordMissmatchException();
         }
-        mapper.update(member.toVO());
+        MemberVO changed = member.toVO();
+        changed.setUpdateDate(Timestamps.now());
+        mapper.update(changed);
         saveAvatar(member.getAvatar(), member.getUsername());
-        return get(member.getUsername());
+
+        // 비밀번호 확인을 위해 읽은 값에 수정한 값을 반영하여 응답 구성 (다시 조회하지 않음)
+        vo.setEmail(changed.getEmail());
+        vo.setUpdateDate(changed.getUpdateDate());
+        return MemberDTO.of(vo);
     }
 
+    @Transactional   // 현재 비밀번호는 원본에서 확인
     @Override
     public void changePassword(ChangePasswordDTO changePassword) {
         MemberVO member = mapper.get(changePassword.getUsername());
@@ -100,4 +132,33 @@ public class MemberServiceImpl implements MemberService {
         changePassword.setNewPassword(passwordEncoder.encode(changePassword.getNewPassword()));
         mapper.updatePassword(changePassword);
     }
+
+    // 아바타 변경 (스트리밍 업로드)
+    // - 임시 파일에 기록한 뒤 원자적으로 교체하여 업로드 도중에도 기존 아바타가 유지됨
+    @Override
+    public void saveAvatar(String username, MultipartStream multipart) {
+        Optional.ofNullable(mapper.get(username)).orElseThrow(NoSuchElementException::new);
+
+        try {
+            for (MultipartStream.Part part; (part = multipart.next()) != null; ) {
+                if (!"avatar".equals(part.getName()) || !part.isFile()) continue;
+
+                File dir = new File(AVATAR_DIR);
+                dir.mkdirs();
+                File temp = File.createTempFile(username + "-", ".part", dir);
+                try {
+                    UploadedFile uploaded = UploadFiles.write(part.getBody(), temp, maxAvatarSize);
+                    Files.move(temp.toPath(), new File(dir, username + ".png").toPath(),
+                            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    log.info("아바타 변경: " + username + ", " + uploaded.getSize() + " bytes, sha256=" + uploaded.getSha256());
+                    return;
+                } finally {
+                    Files.deleteIfExists(temp.toPath());   // 실패 시 임시 파일 정리 (성공 시 이미 이동됨)
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        throw new IllegalArgumentException("avatar 파트가 없습니다.");
+    }
 }
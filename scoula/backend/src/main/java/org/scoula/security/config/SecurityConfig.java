@@ -119,6 +119,10 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
       .antMatchers(HttpMethod.POST, "/api/board/**").authenticated()
       .antMatchers(HttpMethod.PUT, "/api/board/**").authenticated()
       .antMatchers(HttpMethod.DELETE, "/api/board/**").authenticated()
+
+      .antMatchers(HttpMethod.POST, "/api/travel/**").hasRole("ADMIN")   // 여행지 카탈로그 갱신, CSV 가져오기
+      .antMatchers(HttpMethod.GET, "/api/travel/import").hasRole("ADMIN") // CSV 가져오기 진행 상황
+      .antMatchers("/api/admin/**").hasRole("ADMIN")                       // 관리자 API (고아 파일 정리 결과 등)
       .anyRequest().permitAll();
   }
 
@@ -4,18 +4,34 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.scoula.common.pagination.Page;
 import org.scoula.common.pagination.PageRequest;
+import org.scoula.common.util.ETags;
+import org.scoula.common.util.MultipartStream;
 import org.scoula.common.util.UploadFiles;
+import org.scoula.travel.dto.DistrictFacetDTO;
+import org.scoula.travel.dto.ImportProgressDTO;
 import org.scoula.travel.dto.TravelDTO;
-import org.scoula.travel.dto.TravelImageDTO;
+import org.scoula.travel.service.TravelImageVariants;
+import org.scoula.travel.service.TravelImporter;
 import org.scoula.travel.service.TravelService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -23,26 +39,90 @@ import java.io.File;
 @RequestMapping("/api/travel")
 public class TravelController {
     private final TravelService service;
+    private final TravelImporter importer;
 
     // 여행지 목록 조회(페이징 처리 적용)
+    // - district가 있으면 해당 권역의 여행지만 (예: /api/travel?district=강릉권&page=1&amount=10)
     @GetMapping("")
-    public ResponseEntity<Page> getTravels(PageRequest pageRequest) {
+    public ResponseEntity<Page> getTravels(PageRequest pageRequest,
+                                           @RequestParam(value = "district", required = false) String district) {
+        if (district != null && !district.isBlank()) {
+            return ResponseEntity.ok(service.getPage(district, pageRequest));
+        }
         return ResponseEntity.ok(service.getPage(pageRequest));
     }
 
+    // 권역별 여행지 수 (권역 필터 목록용)
+    @GetMapping("/districts")
+    public ResponseEntity<List<DistrictFacetDTO>> getDistricts() {
+        return ResponseEntity.ok(service.getDistricts());
+    }
+
     // 특정 여행지 상세 조회
+    // - 행 버전으로 만든 ETag가 If-None-Match와 같으면 상세 조회/직렬화 없이 304 응답
     @GetMapping("/{no}")
-    public ResponseEntity<TravelDTO> getTravels(@PathVariable("no") Long no) {
+    public ResponseEntity<TravelDTO> getTravels(@PathVariable("no") Long no, WebRequest request) {
+        int version = service.getVersion(no);   // 없는 여행지면 여기서 404
+        service.countView(no);                  // 304 응답이어도 조회로 셈 (조회수는 ETag에 포함하지 않음)
+        if (request.checkNotModified(ETags.of(no, version))) {
+            return null;    // 304 Not Modified (ETag 헤더는 checkNotModified에서 설정됨)
+        }
         return ResponseEntity.ok(service.get(no));
     }
 
 
+    // 여행지 카탈로그 즉시 갱신 (관리자, DB의 여행지 정보를 직접 바꾼 뒤 호출)
+    // - 호출하지 않아도 travel.catalog.refresh-interval 주기로 갱신됨
+    @PostMapping("/refresh")
+    public ResponseEntity<Integer> refresh() {
+        return ResponseEntity.ok(service.refresh());
+    }
+
+
+    // 여행지/이미지 CSV 가져오기 (관리자, multipart/form-data: travels, images)
+    // - 파트를 받는 대로 읽으면서 청크 단위로 DB에 반영 (파일 전체를 메모리나 임시 파일에 두지 않음)
+    // - 파트 순서대로 처리하므로 이미지 목록은 여행지 뒤에 보내야 함
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<List<ImportProgressDTO>> importCsv(HttpServletRequest request) throws IOException {
+        MultipartStream multipart = UploadFiles.openMultipart(request);
+        List<ImportProgressDTO> results = new ArrayList<>();
+        for (MultipartStream.Part part; (part = multipart.next()) != null; ) {
+            Reader csv = new InputStreamReader(part.getBody(), StandardCharsets.UTF_8);
+            switch (String.valueOf(part.getName())) {
+                case "travels" -> results.add(importer.importTravels(csv));
+                case "images" -> results.add(importer.importImages(csv));
+                default -> log.debug("알 수 없는 파트 무시: " + part.getName());
+            }
+        }
+        if (results.isEmpty()) {
+            throw new IllegalArgumentException("travels 또는 images 파트가 없습니다.");
+        }
+        return ResponseEntity.ok(results);
+    }
+
+    // CSV 가져오기 진행 상황 (가져오는 중이면 읽은/반영한 행 수, 초당 행 수)
+    @GetMapping("/import")
+    public ResponseEntity<List<ImportProgressDTO>> getImportProgress() {
+        return ResponseEntity.ok(importer.getProgress());
+    }
+
+
     // 이미지 파일 제공
+    // - w를 지정하면 허용 너비(160, 320, 640, 1280) 중 요청 이상인 가장 작은 너비의 축소본 (예: /api/travel/image/1?v=..&w=320)
+    // - v(원본 버전)가 실제 원본과 같은 축소본만 immutable 캐시 (원본이 바뀌면 v도 바뀌므로 URL 내용은 바뀌지 않음)
+    // - 버전이 없거나 다른 축소본은 짧게 캐시하고 ETag로 재검증, 원본 대체(404, 읽을 수 없는 이미지)는 캐시 헤더 없음
     @GetMapping("/image/{no}")
-    public void viewImage(@PathVariable Long no, HttpServletResponse response) {
-        TravelImageDTO image = service.getImage(no);
-        File file = new File(image.getPath());
-        UploadFiles.downloadImage(response, file);
+    public void viewImage(@PathVariable Long no, @RequestParam(value = "w", required = false) Integer width,
+                          @RequestParam(value = "v", required = false) String version,
+                          HttpServletRequest request, HttpServletResponse response) {
+        // 전송이 끝날 때까지 축소본이 캐시에서 삭제되지 않도록 유지
+        try (TravelImageVariants.Variant variant = service.getImageFile(no, width)) {
+            if (variant.isResized()) {
+                response.setHeader("Cache-Control", variant.getVersion().equals(version)
+                        ? "public, max-age=31536000, immutable" : "public, max-age=3600");
+            }
+            UploadFiles.downloadImage(request, response, new File(variant.getPath()));
+        }
     }
 
 
@@ -19,6 +19,8 @@ public class TravelVO {
     private String description;           // 설명
     private String address;               // 주소
     private String phone;                 // 연락처
+    private int version;                  // 행 버전 (내용이 바뀔 때마다 증가)
+    private long viewCount;               // 조회수 (DB에 기록된 값)
     // 1:N 관계 조인
     private List<TravelImageVO> images;   // 연결된 이미지 목록
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package org.scoula.travel.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 권역별 여행지 수 (권역 필터 목록용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DistrictFacetDTO {
+    private String district;   // 권역
+    private int count;         // 여행지 수
+}
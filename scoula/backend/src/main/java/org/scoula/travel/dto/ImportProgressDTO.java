@@ -0,0 +1,28 @@
+package org.scoula.travel.dto;
+
+import lombok.Data;
+
+import java.util.Date;
+
+/**
+ * CSV 가져오기 진행 상황
+ * - 가져오는 도중에도 조회할 수 있도록 값은 volatile로 갱신
+ */
+@Data
+public class ImportProgressDTO {
+    public enum State { RUNNING, DONE, FAILED }
+
+    private final String target;          // 대상 (travels, images)
+    private final Date startedAt;         // 시작 시각
+    private volatile State state = State.RUNNING;
+    private volatile long rowsRead;       // 읽은 행 수
+    private volatile long rowsWritten;    // DB에 반영한 행 수
+    private volatile long chunks;         // 실행한 일괄 INSERT 수
+    private volatile long elapsedMillis;  // 경과 시간
+    private volatile String error;        // 실패 사유
+
+    // 초당 반영 행 수
+    public long getRowsPerSecond() {
+        return elapsedMillis > 0 ? rowsWritten * 1000 / elapsedMillis : 0;
+    }
+}
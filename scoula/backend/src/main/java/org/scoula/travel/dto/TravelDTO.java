@@ -12,7 +12,7 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)  // toBuilder: 복사본 생성
 public class TravelDTO {
     List<MultipartFile> imageFiles;    // 파일 업로드용 (추후 확장)
 
@@ -22,6 +22,7 @@ public class TravelDTO {
     private String description;
     private String address;
     private String phone;
+    private long viewCount;                // 조회수
     private List<TravelImageDTO> images;
 
     // VO 변환 메서드
@@ -33,6 +34,7 @@ public class TravelDTO {
                 .description(vo.getDescription())
                 .address(vo.getAddress())
                 .phone(vo.getPhone())
+                .viewCount(vo.getViewCount())
                 .build();
 
         // 이미지 목록이 있는 경우 DTO로 변환
@@ -19,6 +19,7 @@ public class TravelImageDTO {
     private long no;
     private String filename;
     private long travelNo;
+    private String version;   // 원본 파일 버전 (수정 시각, 파일이 없으면 null) - 파일이 바뀌면 URL도 바뀜
 
     // VO에서 DTO로 변환하는 정적 메서드
     public static TravelImageDTO of(TravelImageVO vo) {
@@ -36,6 +37,6 @@ public class TravelImageDTO {
 
     // 프론트엔드에서 사용할 URL 프로퍼티
     public String getUrl() {
-        return "/api/travel/image/" + no;
+        return "/api/travel/image/" + no + (version != null ? "?v=" + version : "");
     }
 }
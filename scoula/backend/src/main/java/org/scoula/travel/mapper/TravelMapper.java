@@ -1,20 +1,29 @@
 package org.scoula.travel.mapper;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 import org.scoula.common.pagination.PageRequest;
 import org.scoula.travel.domain.TravelImageVO;
 import org.scoula.travel.domain.TravelVO;
 
 import java.util.List;
+import java.util.Map;
 
 
 public interface TravelMapper {
     int getTotalCount();                                   // 전체 여행지 수
     List<String> getDistricts();                           // 권역 목록 조회
     List<TravelVO> getTravels();                           // 전체 여행지 목록
+    List<TravelVO> getCatalog();                           // 카탈로그용 전체 여행지 (이미지 제외, 권역/이름 순)
     List<TravelVO> getPage(PageRequest pageRequest);       // 페이징 처리된 목록
     List<TravelVO> getTravelsByDistrict(String district);  // 권역별 여행지 목록
     TravelVO getTravel(Long no);                           // 특정 여행지 상세 정보
+    Integer getVersion(Long no);                           // 특정 여행지 행 버전
     List<TravelImageVO> getImages(Long travelNo);          // 특정 여행지 이미지 목록
+    List<TravelImageVO> getImagesByTravelNos(List<Long> travelNos);  // 여러 여행지 이미지 목록 (IN 조회 한 번)
+    List<TravelImageVO> getAllImages();                    // 전체 이미지 목록 (카탈로그용)
     TravelImageVO getImage(Long no);                       // 특정 이미지 정보
+    void addViewCounts(@Param("counts") Map<Long, Long> counts);  // 조회수 일괄 반영
+    int upsertTravels(List<TravelVO> travels);             // 여행지 일괄 upsert (내용이 바뀌면 version 증가)
+    int upsertImages(List<TravelImageVO> images);          // 여행지 이미지 일괄 등록 (중복 제외)
 }
\ No newline at end of file
@@ -0,0 +1,233 @@
+package org.scoula.travel.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.scoula.travel.domain.TravelVO;
+import org.scoula.travel.dto.DistrictFacetDTO;
+import org.scoula.travel.dto.TravelDTO;
+import org.scoula.travel.dto.TravelImageDTO;
+import org.scoula.travel.mapper.TravelMapper;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 여행지 카탈로그 (메모리 스냅샷)
+ * - 여행지는 travel.csv로 채운 뒤 거의 바뀌지 않으므로, 전체 여행지와 이미지를 메모리에 올려 두고 조회 시 DB를 사용하지 않음
+ * - 스냅샷은 정렬된 배열 + 번호/권역 색인 + 권역별 여행지 수로 구성되고 만든 뒤에는 바뀌지 않음
+ * - 주기적으로(또는 refresh() 호출 시) 새 스냅샷을 만들어 AtomicReference로 한 번에 교체
+ *   (읽는 쪽은 락 없이 항상 완성된 스냅샷 하나를 봄)
+ * - 조회수는 스냅샷을 만들 때의 값에 그 이후 센 값을 더해 제공 (TravelViewCounter.getUnloaded)
+ * - 여행지는 travel.csv로 채우는 수천 건 이하를 가정 (갱신마다 tbl_travel, tbl_travel_image 전체를 읽어 메모리에 올림)
+ *   이 규모를 크게 넘으면 전체 스냅샷 대신 DB 페이징 조회로 바꿔야 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TravelCatalog implements InitializingBean {
+
+    private final TravelMapper travelMapper;
+    private final TravelImageLoader imageLoader;
+    private final TravelViewCounter viewCounter;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    @Override
+    public void afterPropertiesSet() {
+        refresh();
+    }
+
+    /**
+     * 새 스냅샷을 만들어 교체
+     * - 실패하면 이전 스냅샷을 계속 제공하고 다음 주기에 다시 시도
+     * @return 교체된 스냅샷의 여행지 수
+     */
+    @Scheduled(fixedDelayString = "${travel.catalog.refresh-interval:300000}",
+               initialDelayString = "${travel.catalog.refresh-interval:300000}")
+    public synchronized int refresh() {
+        try {
+            // 조회수 기록과 겹치지 않게 읽고 교체해야 스냅샷 조회수 + 이후 센 값이 정확함
+            Snapshot next = viewCounter.reload(() -> {
+                Snapshot loaded = load();
+                snapshot.set(loaded);
+                return loaded;
+            });
+            log.info("여행지 카탈로그 갱신: 여행지 {}건, 이미지 {}건", next.travels.length, next.images.size());
+            return next.travels.length;
+        } catch (RuntimeException e) {
+            if (snapshot.get() == null) {
+                throw e;    // 시작 시 처음 만들지 못하면 제공할 스냅샷이 없음
+            }
+            log.error("여행지 카탈로그 갱신 실패: " + e.getMessage(), e);
+            return snapshot.get().travels.length;
+        }
+    }
+
+    // DB에서 전체 여행지(정렬됨)와 전체 이미지를 읽어 스냅샷 생성 (쿼리 2번)
+    private Snapshot load() {
+        List<TravelVO> rows = travelMapper.getCatalog();
+        Map<Long, List<TravelImageDTO>> images = imageLoader.loadAll();
+
+        TravelDTO[] travels = new TravelDTO[rows.size()];
+        int[] versions = new int[rows.size()];
+        for (int i = 0; i < travels.length; i++) {
+            TravelVO row = rows.get(i);
+            travels[i] = TravelDTO.of(row);
+            travels[i].setImages(List.copyOf(images.getOrDefault(row.getNo(), List.of())));
+            versions[i] = row.getVersion();
+        }
+        return new Snapshot(travels, versions);
+    }
+
+    /**
+     * 전체 여행지 수
+     */
+    public int size() {
+        return snapshot.get().travels.length;
+    }
+
+    /**
+     * 정렬된(권역, 이름) 목록의 일부
+     * @param offset 시작 위치
+     * @param amount 최대 개수
+     */
+    public List<TravelDTO> getRange(int offset, int amount) {
+        TravelDTO[] travels = snapshot.get().travels;
+        int from = Math.min(Math.max(offset, 0), travels.length);
+        int to = Math.min(from + Math.max(amount, 0), travels.length);
+        return copyOf(Arrays.asList(travels).subList(from, to));
+    }
+
+    /**
+     * 특정 권역의 여행지 수
+     * @return 여행지 수 (없는 권역이면 0)
+     */
+    public int size(String district) {
+        return snapshot.get().byDistrict.getOrDefault(district, new int[0]).length;
+    }
+
+    /**
+     * 특정 권역의 이름 순 목록의 일부
+     * @param district 권역
+     * @param offset 권역 내 시작 위치
+     * @param amount 최대 개수
+     * @return 여행지 목록 (없는 권역이면 빈 목록)
+     */
+    public List<TravelDTO> getRange(String district, int offset, int amount) {
+        Snapshot current = snapshot.get();
+        int[] indexes = current.byDistrict.getOrDefault(district, new int[0]);
+        int from = Math.min(Math.max(offset, 0), indexes.length);
+        int to = Math.min(from + Math.max(amount, 0), indexes.length);
+
+        List<TravelDTO> travels = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            travels.add(copyOf(current.travels[indexes[i]]));
+        }
+        return travels;
+    }
+
+    /**
+     * 전체 여행지 목록 (권역, 이름 순)
+     */
+    public List<TravelDTO> getAll() {
+        return copyOf(Arrays.asList(snapshot.get().travels));
+    }
+
+    /**
+     * 특정 여행지
+     * @return 여행지 (없으면 null)
+     */
+    public TravelDTO get(Long no) {
+        Snapshot current = snapshot.get();
+        Integer index = current.byNo.get(no);
+        return index == null ? null : copyOf(current.travels[index]);
+    }
+
+    /**
+     * 특정 여행지 행 버전
+     * @return 행 버전 (없으면 null)
+     */
+    public Integer getVersion(Long no) {
+        Snapshot current = snapshot.get();
+        Integer index = current.byNo.get(no);
+        return index == null ? null : current.versions[index];
+    }
+
+    /**
+     * 권역별 여행지 수 (권역 이름 순, 스냅샷을 만들 때 미리 계산한 불변 목록)
+     */
+    public List<DistrictFacetDTO> getDistrictFacets() {
+        return snapshot.get().facets;
+    }
+
+    /**
+     * 이미지 정보
+     * @param no 이미지 번호
+     * @return 이미지 (없으면 null)
+     */
+    public TravelImageDTO getImage(Long no) {
+        return snapshot.get().images.get(no);
+    }
+
+    // 스냅샷의 객체는 공유되므로 복사본에 아직 반영되지 않은 조회수를 더해 반환
+    private TravelDTO copyOf(TravelDTO travel) {
+        return travel.toBuilder()
+                .viewCount(travel.getViewCount() + viewCounter.getUnloaded(travel.getNo()))
+                .build();
+    }
+
+    private List<TravelDTO> copyOf(List<TravelDTO> travels) {
+        return travels.stream().map(this::copyOf).toList();
+    }
+
+    /**
+     * 불변 스냅샷
+     * - travels: 권역, 이름 순으로 정렬된 여행지 (이미지 목록 포함)
+     * - versions: travels와 같은 위치의 행 버전
+     * - byNo: 여행지 번호 → 위치, byDistrict: 권역(이름 순) → 위치 목록, images: 이미지 번호 → 이미지
+     * - facets: 권역별 여행지 수 (권역 이름 순)
+     */
+    private static class Snapshot {
+        private final TravelDTO[] travels;
+        private final int[] versions;
+        private final Map<Long, Integer> byNo;
+        private final Map<String, int[]> byDistrict;
+        private final Map<Long, TravelImageDTO> images;
+        private final List<DistrictFacetDTO> facets;
+
+        private Snapshot(TravelDTO[] travels, int[] versions) {
+            this.travels = travels;
+            this.versions = versions;
+
+            Map<Long, Integer> byNo = new HashMap<>();
+            Map<String, List<Integer>> districts = new LinkedHashMap<>();   // 정렬 순서대로 권역 등장
+            Map<Long, TravelImageDTO> images = new HashMap<>();
+            for (int i = 0; i < travels.length; i++) {
+                byNo.put(travels[i].getNo(), i);
+                districts.computeIfAbsent(travels[i].getDistrict(), key -> new ArrayList<>()).add(i);
+                travels[i].getImages().forEach(image -> images.put(image.getNo(), image));
+            }
+
+            Map<String, int[]> byDistrict = new LinkedHashMap<>();
+            List<DistrictFacetDTO> facets = new ArrayList<>();
+            districts.forEach((district, indexes) -> {
+                byDistrict.put(district, indexes.stream().mapToInt(Integer::intValue).toArray());
+                facets.add(new DistrictFacetDTO(district, indexes.size()));
+            });
+
+            this.byNo = Map.copyOf(byNo);
+            this.byDistrict = Collections.unmodifiableMap(byDistrict);
+            this.images = Map.copyOf(images);
+            this.facets = List.copyOf(facets);
+        }
+    }
+}
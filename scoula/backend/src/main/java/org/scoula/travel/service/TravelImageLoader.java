@@ -0,0 +1,58 @@
+package org.scoula.travel.service;
+
+import lombok.RequiredArgsConstructor;
+import org.scoula.travel.domain.TravelImageVO;
+import org.scoula.travel.dto.TravelImageDTO;
+import org.scoula.travel.mapper.TravelMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 여행지 이미지 일괄 로더
+ * - 여행지마다 이미지를 조회(N+1)하지 않고, 여러 여행지의 이미지를 IN 조회 한 번으로 읽어 메모리에서 묶음
+ * - 여행지 번호 목록만 있으면 어느 목록 조회에서도 사용 가능
+ * - 전체 여행지를 읽는 경우(카탈로그)에는 번호 목록 대신 loadAll()로 전체 테이블을 한 번에 읽음
+ */
+@Component
+@RequiredArgsConstructor
+public class TravelImageLoader {
+
+    private final TravelMapper travelMapper;
+
+    /**
+     * 여러 여행지의 이미지 조회
+     * @param travelNos 여행지 번호 목록 (중복 허용)
+     * @return 여행지 번호 → 이미지 목록 (이미지가 없는 여행지는 포함하지 않음)
+     */
+    public Map<Long, List<TravelImageDTO>> load(Collection<Long> travelNos) {
+        if (travelNos.isEmpty()) {
+            return Map.of();
+        }
+        return travelMapper.getImagesByTravelNos(List.copyOf(new LinkedHashSet<>(travelNos))).stream()
+                .map(this::toImage)
+                .collect(Collectors.groupingBy(TravelImageDTO::getTravelNo));
+    }
+
+    /**
+     * 전체 여행지의 이미지 조회 (IN 목록 없이 전체 테이블 조회)
+     * @return 여행지 번호 → 이미지 목록 (이미지가 없는 여행지는 포함하지 않음)
+     */
+    public Map<Long, List<TravelImageDTO>> loadAll() {
+        return travelMapper.getAllImages().stream()
+                .map(this::toImage)
+                .collect(Collectors.groupingBy(TravelImageDTO::getTravelNo));
+    }
+
+    // 원본 파일 버전(수정 시각)을 넣어 변환 - 이미지 URL에 포함되어 파일이 바뀌면 URL도 바뀜
+    private TravelImageDTO toImage(TravelImageVO vo) {
+        TravelImageDTO image = TravelImageDTO.of(vo);
+        image.setVersion(TravelImageVariants.versionOf(new File(image.getPath())));
+        return image;
+    }
+}
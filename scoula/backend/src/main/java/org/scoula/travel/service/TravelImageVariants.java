@@ -0,0 +1,119 @@
+package org.scoula.travel.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.scoula.common.cache.DiskLruCache;
+import org.scoula.common.util.ImageResizer;
+import org.scoula.travel.dto.TravelImageDTO;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * 여행지 이미지 축소본 (요청 시 생성)
+ * - 요청 너비를 정해진 너비 중 하나로 맞춰 축소본 종류를 제한 (임의 너비로 캐시를 채우지 못하도록)
+ * - 축소본은 처음 요청될 때 ImageResizer로 한 번만 만들고 크기 제한이 있는 디스크 LRU 캐시에 보관
+ *   (같은 축소본을 동시에 처음 요청해도 한 번만 생성)
+ * - 캐시 키와 이미지 URL(?v=)에 원본 수정 시각을 넣어 원본 파일을 바꾸면 새로 생성되고 URL도 바뀜
+ * - 반환한 Variant를 close()할 때까지 축소본이 캐시에서 삭제되지 않으므로 전송이 끝난 뒤 close()해야 함
+ */
+@Slf4j
+@Component
+public class TravelImageVariants implements InitializingBean {
+
+    // 허용 너비 (px, 요청 너비 이상인 가장 작은 너비로 맞춤)
+    @Value("${travel.image.widths:160,320,640,1280}")
+    private int[] widths;
+
+    // 축소본 캐시 디렉토리
+    @Value("${travel.image.cache-dir:c:/upload/travel/variants}")
+    private String cacheDir;
+
+    // 축소본 캐시 전체 크기 상한 (바이트)
+    @Value("${travel.image.cache-max-bytes:536870912}")
+    private long cacheMaxBytes;
+
+    private DiskLruCache cache;
+
+    @Override
+    public void afterPropertiesSet() {
+        Arrays.sort(widths);
+        cache = new DiskLruCache(new File(cacheDir), cacheMaxBytes);
+    }
+
+    /**
+     * 요청 너비에 맞는 허용 너비
+     * @return 요청 너비 이상인 가장 작은 너비 (없으면 가장 큰 너비)
+     */
+    public int chooseWidth(int width) {
+        for (int candidate : widths) {
+            if (candidate >= width) return candidate;
+        }
+        return widths[widths.length - 1];
+    }
+
+    /**
+     * 원본 파일 버전 (수정 시각 16진수)
+     * @return 버전 (파일이 없으면 null)
+     */
+    public static String versionOf(File src) {
+        return src.isFile() ? Long.toHexString(src.lastModified()) : null;
+    }
+
+    /**
+     * 제공할 이미지 파일 (축소본이 없으면 생성)
+     * @param image 원본 이미지
+     * @param width 요청 너비 (null이면 원본)
+     * @return 축소본 (원본이 없거나 읽을 수 없는 이미지면 원본, resized=false), 전송 후 close() 필요
+     */
+    public Variant get(TravelImageDTO image, Integer width) {
+        File src = new File(image.getPath());
+        String version = versionOf(src);
+        if (width == null || version == null) {
+            return new Variant(src.getPath(), false, version, null);   // 원본이 없으면 파일 전송 시 404
+        }
+
+        int chosen = chooseWidth(width);
+        String key = image.getNo() + "-" + chosen + "-" + version + ".jpg";
+        try {
+            DiskLruCache.Handle variant = cache.open(key, dest -> ImageResizer.resize(src, dest, chosen, Integer.MAX_VALUE, "jpg"));
+            if (variant == null) {
+                log.info("축소본 생성 불가 (읽을 수 없는 이미지): " + image.getNo());
+                return new Variant(src.getPath(), false, version, null);
+            }
+            return new Variant(variant.getFile().getPath(), true, version, variant);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 제공할 이미지 파일
+     * - resized: 축소본이면 true (원본으로 대체된 경우 false)
+     * - version: 만든 원본의 버전 (원본이 없으면 null)
+     * - close(): 축소본의 사용 중 표시 해제 (원본이면 아무 일도 하지 않음)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Variant implements AutoCloseable {
+        private final String path;
+        private final boolean resized;
+        private final String version;
+        @Getter(AccessLevel.NONE)
+        private final DiskLruCache.Handle handle;
+
+        @Override
+        public void close() {
+            if (handle != null) {
+                handle.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.scoula.travel.service;
+
+import org.scoula.config.RootConfig;
+import org.scoula.travel.dto.ImportProgressDTO;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 여행지 CSV 가져오기 명령줄 실행
+ * - 웹 애플리케이션 없이 RootConfig(DataSource, MyBatis)만 띄워 TravelImporter 실행
+ * - 실행 중에는 1초마다 진행 상황 출력
+ *
+ * 사용법)
+ *   gradle importTravel                                  : 내장 travel.csv, travel_image.csv
+ *   gradle importTravel --args="travels.csv images.csv"  : 지정한 파일 (이미지 목록은 생략 가능)
+ */
+public class TravelImportCli {
+
+    public static void main(String[] args) throws IOException {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(RootConfig.class)) {
+            TravelImporter importer = context.getBean(TravelImporter.class);
+
+            ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+            reporter.scheduleAtFixedRate(() -> importer.getProgress().stream()
+                    .filter(progress -> progress.getState() == ImportProgressDTO.State.RUNNING)
+                    .forEach(TravelImportCli::print), 1, 1, TimeUnit.SECONDS);
+            String travels = args.length > 0 ? args[0] : null;
+            String images = args.length > 1 ? args[1] : null;
+            try {
+                print(run(travels, "/travel.csv", importer::importTravels));
+                if (images != null || travels == null) {   // 파일을 지정했으면 이미지 목록도 지정한 경우에만
+                    print(run(images, "/travel_image.csv", importer::importImages));
+                }
+            } finally {
+                reporter.shutdownNow();
+            }
+        }
+    }
+
+    // 파일(없으면 내장 리소스)을 열어 가져오기 실행
+    private static ImportProgressDTO run(String path, String resource,
+                                         Function<Reader, ImportProgressDTO> importer) throws IOException {
+        try (InputStream in = path != null ? new FileInputStream(path)
+                : TravelImportCli.class.getResourceAsStream(resource);
+             Reader csv = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            return importer.apply(csv);
+        }
+    }
+
+    private static void print(ImportProgressDTO progress) {
+        System.out.printf("[%s] %s: 읽음 %,d행, 반영 %,d행 (%,d청크), %,dms, %,d행/초%n",
+                progress.getTarget(), progress.getState(), progress.getRowsRead(), progress.getRowsWritten(),
+                progress.getChunks(), progress.getElapsedMillis(), progress.getRowsPerSecond());
+    }
+}
@@ -0,0 +1,255 @@
+package org.scoula.travel.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.scoula.common.util.CsvReader;
+import org.scoula.travel.domain.TravelImageVO;
+import org.scoula.travel.domain.TravelVO;
+import org.scoula.travel.dto.ImportProgressDTO;
+import org.scoula.travel.mapper.TravelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 여행지 CSV 가져오기
+ * - 읽는 스레드: CsvReader로 한 레코드씩 읽어 VO로 변환하고 청크(기본 1000행)로 묶어 큐에 넣음
+ * - 쓰는 스레드(호출한 스레드): 큐에서 청크를 꺼내 다중 행 INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 반영
+ * - 큐 크기가 정해져 있어 DB가 느리면 읽기가 기다리므로, 파일 크기와 관계없이 메모리에는 몇 개의 청크만 있음
+ * - 행마다 INSERT 하지 않으므로 왕복/커밋 횟수가 청크 크기만큼 줄어듦
+ *
+ * 형식)
+ *   여행지: no,district,title,description,address,phone (첫 줄은 헤더, 컬럼 순서 무관, no가 비어 있으면 새 번호)
+ *   이미지: travel_no,filename
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TravelImporter {
+
+    private final TravelMapper travelMapper;
+    private final TravelCatalog catalog;
+
+    // 일괄 INSERT 한 번에 담는 행 수
+    @Value("${travel.import.chunk-size:1000}")
+    private int chunkSize;
+
+    // 읽기와 쓰기 사이에 대기할 수 있는 청크 수
+    @Value("${travel.import.queue-capacity:8}")
+    private int queueCapacity;
+
+    // 한 번에 하나의 가져오기만 실행
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // 대상별 마지막(또는 진행 중인) 가져오기 진행 상황
+    private final Map<String, ImportProgressDTO> progress = new ConcurrentHashMap<>();
+
+    /**
+     * 여행지 CSV 가져오기 (끝나면 실패해도 일부 반영되었을 수 있으므로 카탈로그 갱신)
+     * @param csv 여행지 CSV (닫지 않음)
+     * @return 진행 상황 (완료)
+     */
+    public ImportProgressDTO importTravels(Reader csv) {
+        try {
+            return run("travels", csv, List.of("district", "title"), row -> TravelVO.builder()
+                    .no(row.getLong("no"))
+                    .district(row.get("district"))
+                    .title(row.get("title"))
+                    .description(row.get("description"))
+                    .address(row.get("address"))
+                    .phone(row.get("phone"))
+                    .build(), travelMapper::upsertTravels);
+        } finally {
+            catalog.refresh();
+        }
+    }
+
+    /**
+     * 여행지 이미지 목록 CSV 가져오기 (이미 있는 여행지 번호 + 파일명은 건너뜀, 끝나면 카탈로그 갱신)
+     * @param csv 이미지 목록 CSV (닫지 않음)
+     * @return 진행 상황 (완료)
+     */
+    public ImportProgressDTO importImages(Reader csv) {
+        try {
+            return run("images", csv, List.of("travel_no", "filename"), row -> TravelImageVO.builder()
+                    .travelNo(row.getLong("travel_no"))
+                    .filename(row.get("filename"))
+                    .build(), travelMapper::upsertImages);
+        } finally {
+            catalog.refresh();
+        }
+    }
+
+    /**
+     * 대상별 진행 상황 (가져오는 중이면 현재 값)
+     */
+    public List<ImportProgressDTO> getProgress() {
+        return List.copyOf(progress.values());
+    }
+
+    /**
+     * 읽기 스레드 → 크기 제한 큐 → 쓰기(호출한 스레드) 파이프라인 실행
+     * @param target 대상 이름 (진행 상황 구분)
+     * @param csv CSV 입력
+     * @param required 값이 있어야 하는 컬럼
+     * @param converter 행 → VO
+     * @param writer 청크를 DB에 반영
+     */
+    private <T> ImportProgressDTO run(String target, Reader csv, List<String> required,
+                                      Function<Row, T> converter, Consumer<List<T>> writer) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 가져오기가 진행 중입니다.");
+        }
+
+        ImportProgressDTO status = new ImportProgressDTO(target, new Date());
+        progress.put(target, status);
+        long started = System.currentTimeMillis();
+        log.info("{} 가져오기 시작", target);
+
+        BlockingQueue<Chunk<T>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        Thread reader = new Thread(() -> read(csv, required, converter, queue, status), "travel-import-" + target);
+        reader.setDaemon(true);
+        reader.start();
+
+        try {
+            // 청크를 꺼내 반영 (마지막 표시 또는 읽기 오류가 올 때까지)
+            for (Chunk<T> chunk; !(chunk = queue.take()).isLast(); ) {
+                writer.accept(chunk.rows);
+                status.setRowsWritten(status.getRowsWritten() + chunk.rows.size());
+                status.setChunks(status.getChunks() + 1);
+                status.setElapsedMillis(System.currentTimeMillis() - started);
+            }
+            status.setState(ImportProgressDTO.State.DONE);
+            return status;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw fail(status, new IllegalStateException("가져오기가 중단되었습니다.", e));
+        } catch (RuntimeException e) {
+            throw fail(status, e);
+        } finally {
+            reader.interrupt();   // 쓰기 실패 시 큐가 차서 기다리는 읽기 스레드 종료
+            status.setElapsedMillis(System.currentTimeMillis() - started);
+            running.set(false);
+            log.info("{} 가져오기 {}: 읽음 {}행, 반영 {}행, {}ms ({}행/초)", target, status.getState(),
+                    status.getRowsRead(), status.getRowsWritten(), status.getElapsedMillis(), status.getRowsPerSecond());
+        }
+    }
+
+    private RuntimeException fail(ImportProgressDTO status, RuntimeException e) {
+        status.setState(ImportProgressDTO.State.FAILED);
+        status.setError(e.getMessage());
+        return e;
+    }
+
+    // 읽기 스레드: CSV → VO 청크 → 큐 (실패하면 오류를 담은 마지막 청크를 넣음)
+    private <T> void read(Reader csv, List<String> required, Function<Row, T> converter,
+                          BlockingQueue<Chunk<T>> queue, ImportProgressDTO status) {
+        try {
+            CsvReader reader = new CsvReader(csv);
+            Row row = new Row(reader.next(), required);
+
+            List<T> rows = new ArrayList<>(chunkSize);
+            for (List<String> record; (record = reader.next()) != null; ) {
+                row.set(record, reader.getLineNumber());
+                rows.add(converter.apply(row));
+                status.setRowsRead(status.getRowsRead() + 1);
+                if (rows.size() == chunkSize) {
+                    queue.put(new Chunk<>(rows, null));
+                    rows = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!rows.isEmpty()) {
+                queue.put(new Chunk<>(rows, null));
+            }
+            queue.put(new Chunk<>(null, null));
+        } catch (InterruptedException e) {
+            // 쓰기 쪽이 실패하여 중단 - 더 넣을 필요 없음
+        } catch (IOException | RuntimeException e) {
+            RuntimeException error = e instanceof IOException ? new UncheckedIOException((IOException) e) : (RuntimeException) e;
+            queue.clear();   // 쓰기 쪽이 바로 오류를 받도록
+            queue.offer(new Chunk<>(null, error));
+        }
+    }
+
+    // 큐 항목: rows가 null이면 마지막 (error가 있으면 읽기 실패)
+    private static class Chunk<T> {
+        private final List<T> rows;
+        private final RuntimeException error;
+
+        private Chunk(List<T> rows, RuntimeException error) {
+            this.rows = rows;
+            this.error = error;
+        }
+
+        private boolean isLast() {
+            if (error != null) throw error;
+            return rows == null;
+        }
+    }
+
+    /**
+     * 헤더 이름으로 값을 꺼내는 현재 행
+     * - 빈 값은 null, 필수 컬럼이 비어 있으면 줄 번호와 함께 오류
+     */
+    static class Row {
+        private final Map<String, Integer> columns = new HashMap<>();
+        private final List<String> required;
+        private List<String> record;
+        private long lineNumber;
+
+        Row(List<String> header, List<String> required) {
+            if (header == null) {
+                throw new IllegalArgumentException("CSV가 비어 있습니다.");
+            }
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim().toLowerCase(), i);
+            }
+            for (String column : required) {
+                if (!columns.containsKey(column)) {
+                    throw new IllegalArgumentException("CSV 헤더에 " + column + " 컬럼이 없습니다: " + header);
+                }
+            }
+            this.required = required;
+        }
+
+        void set(List<String> record, long lineNumber) {
+            this.record = record;
+            this.lineNumber = lineNumber;
+            for (String column : required) {
+                if (get(column) == null) {
+                    throw new IllegalArgumentException(column + " 값이 없습니다 (" + lineNumber + "번째 줄 부근)");
+                }
+            }
+        }
+
+        String get(String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= record.size()) return null;
+            String value = record.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        Long getLong(String column) {
+            String value = get(column);
+            try {
+                return value == null ? null : Long.valueOf(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(column + " 값이 숫자가 아닙니다 (" + lineNumber + "번째 줄 부근): " + value);
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.scoula.travel.service;
 
 import org.scoula.common.pagination.Page;
 import org.scoula.common.pagination.PageRequest;
+import org.scoula.travel.dto.DistrictFacetDTO;
 import org.scoula.travel.dto.TravelDTO;
 import org.scoula.travel.dto.TravelImageDTO;
 
@@ -9,7 +10,13 @@ import java.util.List;
 
 public interface TravelService {
     Page<TravelDTO> getPage(PageRequest pageRequest);  // 페이징 처리된 목록
+    Page<TravelDTO> getPage(String district, PageRequest pageRequest);  // 권역별 페이징 처리된 목록
+    List<DistrictFacetDTO> getDistricts();             // 권역별 여행지 수
     List<TravelDTO> getList();                         // 전체 목록
     TravelDTO get(Long no);                            // 특정 여행지 상세
+    int getVersion(Long no);                           // 특정 여행지 행 버전 (ETag용)
+    void countView(Long no);                           // 조회수 1 증가 (DB에는 주기적으로 반영)
     TravelImageDTO getImage(Long no);                  // 이미지 정보 조회
+    TravelImageVariants.Variant getImageFile(Long no, Integer width);  // 제공할 이미지 파일 (너비를 지정하면 축소본, 전송 후 close)
+    int refresh();                                     // 카탈로그 즉시 갱신, 갱신된 여행지 수 반환
 }
\ No newline at end of file
@@ -4,66 +4,94 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.scoula.common.pagination.Page;
 import org.scoula.common.pagination.PageRequest;
-import org.scoula.travel.domain.TravelImageVO;
-import org.scoula.travel.domain.TravelVO;
+import org.scoula.travel.dto.DistrictFacetDTO;
 import org.scoula.travel.dto.TravelDTO;
 import org.scoula.travel.dto.TravelImageDTO;
-import org.scoula.travel.mapper.TravelMapper;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 
+/**
+ * 여행지 서비스
+ * - 모든 조회는 메모리 카탈로그(TravelCatalog)에서 처리하여 DB를 사용하지 않음
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TravelServiceImpl implements TravelService {
 
-    private final TravelMapper travelMapper;
+    private final TravelCatalog catalog;           // 여행지 메모리 스냅샷
+    private final TravelViewCounter viewCounter;   // 조회수 카운터 (지연 기록)
+    private final TravelImageVariants variants;    // 이미지 축소본 (디스크 캐시)
 
     // 페이징 처리된 목록
     @Override
     public Page<TravelDTO> getPage(PageRequest pageRequest) {
-        // 1. 기본 여행지 정보 조회 (페이징 적용)
-        List<TravelDTO> travels = travelMapper.getPage(pageRequest)
-                .stream().map(TravelDTO::of).toList();
-
-        // 2. 각 여행지별 이미지 정보 별도 조회
-        travels.forEach(travel -> {
-            List<TravelImageDTO> images = travelMapper.getImages(travel.getNo())
-                    .stream().map(TravelImageDTO::of).toList();
-            travel.setImages(images);
-        });
-
-        // 3. 전체 개수 조회 및 Page 객체 생성
-        int totalCount = travelMapper.getTotalCount();
-        return Page.of(pageRequest, totalCount, travels);
+        // 정렬된 스냅샷에서 페이지 범위만 잘라서 반환 (전체 개수도 스냅샷 크기)
+        List<TravelDTO> travels = catalog.getRange(pageRequest.getOffset(), pageRequest.getAmount());
+        return Page.of(pageRequest, catalog.size(), travels);
+    }
+
+    // 권역별 페이징 처리된 목록 (권역 색인에서 페이지 범위만 잘라서 반환)
+    @Override
+    public Page<TravelDTO> getPage(String district, PageRequest pageRequest) {
+        List<TravelDTO> travels = catalog.getRange(district, pageRequest.getOffset(), pageRequest.getAmount());
+        return Page.of(pageRequest, catalog.size(district), travels);
+    }
+
+    // 권역별 여행지 수 (카탈로그를 만들 때 미리 계산)
+    @Override
+    public List<DistrictFacetDTO> getDistricts() {
+        return catalog.getDistrictFacets();
     }
 
 
     // 전체 목록
     @Override
     public List<TravelDTO> getList() {
-        List<TravelVO> travels = travelMapper.getTravels();
-        return travels.stream().map(TravelDTO::of).toList();
+        return catalog.getAll();
     }
 
-    // 특정 여행지 상세
+    // 특정 여행지 상세 (아직 기록되지 않은 조회수 포함)
     @Override
     public TravelDTO get(Long no) {
-        TravelVO travel = travelMapper.getTravel(no);
-        if (travel == null) {
-            throw new NoSuchElementException();
-        }
-        return TravelDTO.of(travel);
+        return Optional.ofNullable(catalog.get(no))
+                .orElseThrow(NoSuchElementException::new);
+    }
+
+    // 조회수 증가 (메모리에만 반영, TravelViewCounter가 주기적으로 기록)
+    @Override
+    public void countView(Long no) {
+        viewCounter.increment(no);
+    }
+
+    // 특정 여행지 행 버전 (상세 조회 없이 변경 여부 확인용)
+    @Override
+    public int getVersion(Long no) {
+        return Optional.ofNullable(catalog.getVersion(no))
+                .orElseThrow(NoSuchElementException::new);
     }
 
     // 이미지 정보 조회
     @Override
     public TravelImageDTO getImage(Long no) {
-        TravelImageVO image = travelMapper.getImage(no);
-        return TravelImageDTO.of(image);
+        return Optional.ofNullable(catalog.getImage(no))
+                .orElseThrow(NoSuchElementException::new);
+    }
+
+    // 제공할 이미지 파일 (width가 없으면 원본, 있으면 허용 너비 중 하나로 맞춘 축소본)
+    @Override
+    public TravelImageVariants.Variant getImageFile(Long no, Integer width) {
+        return variants.get(getImage(no), width);
+    }
+
+    // 카탈로그 즉시 갱신 (DB의 여행지 정보를 바꾼 뒤 호출)
+    @Override
+    public int refresh() {
+        return catalog.refresh();
     }
 
-}
\ No newline at end of file
+}
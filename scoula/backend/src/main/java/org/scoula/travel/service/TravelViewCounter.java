@@ -0,0 +1,58 @@
+package org.scoula.travel.service;
+
+import lombok.RequiredArgsConstructor;
+import org.scoula.common.util.ViewCounter;
+import org.scoula.travel.mapper.TravelMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 여행지 조회수 카운터
+ * - 모은 조회수를 tbl_travel_view에 일괄 upsert
+ * - 여행지 목록은 메모리 카탈로그(TravelCatalog)에서 제공하므로,
+ *   카탈로그를 읽은 뒤 DB에 기록한 조회수도 따로 모아 두었다가 카탈로그 값에 더할 수 있게 함
+ */
+@Component
+@RequiredArgsConstructor
+public class TravelViewCounter extends ViewCounter {
+
+    private final TravelMapper travelMapper;
+
+    // 마지막 reload() 이후 DB에 기록한 조회수
+    private final ConcurrentHashMap<Long, Long> written = new ConcurrentHashMap<>();
+
+    @Scheduled(fixedDelayString = "${view.flush-interval:10000}")
+    public void run() {
+        flush();
+    }
+
+    @Override
+    protected void write(Map<Long, Long> counts) {
+        travelMapper.addViewCounts(counts);
+        counts.forEach((no, count) -> written.merge(no, count, Long::sum));
+    }
+
+    /**
+     * DB에서 읽은 조회수에 더해야 할 값 (기록 대기 중 + 마지막 reload() 이후 기록분)
+     * @param no 여행지 번호
+     */
+    public long getUnloaded(Long no) {
+        return getPending(no) + written.getOrDefault(no, 0L);
+    }
+
+    /**
+     * 모은 조회수를 기록한 뒤 loader 실행
+     * - 실행 중에는 다른 기록이 끼어들지 않으므로 loader가 읽은 조회수에는 그때까지의 기록이 모두 포함됨
+     * @param loader DB에서 조회수를 읽는 작업
+     */
+    public synchronized <T> T reload(Supplier<T> loader) {
+        flush();
+        T loaded = loader.get();
+        written.clear();
+        return loaded;
+    }
+}
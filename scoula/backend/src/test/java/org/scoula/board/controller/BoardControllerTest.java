@@ -0,0 +1,144 @@
+package org.scoula.board.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.board.domain.BoardAttachmentVO;
+import org.scoula.board.dto.BoardDTO;
+import org.scoula.board.service.BoardService;
+import org.scoula.common.util.MultipartStream;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Log4j2
+class BoardControllerTest {
+
+  private static final String BOUNDARY = "----boundary";
+
+  private static byte[] body(byte[] file) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(("--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"title\"\r\n\r\n"
+            + "제목\r\n"
+            + "--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"files\"; filename=\"a.bin\"\r\n"
+            + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+    out.write(file);
+    out.write(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+    return out.toByteArray();
+  }
+
+  // 파라미터를 조회하면 본문을 모두 읽어버리는 요청 (컨테이너의 multipart 파싱 흉내)
+  private static RequestPostProcessor parsingContainer() {
+    return request -> new MockHttpServletRequest(request.getServletContext()) {
+      {
+        setMethod(request.getMethod());
+        setRequestURI(request.getRequestURI());
+        setQueryString(request.getQueryString());
+        setContentType(request.getContentType());
+        setContent(request.getContentAsByteArray());
+        request.getParameterMap().forEach(this::setParameter);
+      }
+
+      private void parse() {
+        try {
+          getInputStream().readAllBytes();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+
+      @Override
+      public String getParameter(String name) {
+        parse();
+        return super.getParameter(name);
+      }
+
+      @Override
+      public String[] getParameterValues(String name) {
+        parse();
+        return super.getParameterValues(name);
+      }
+
+      @Override
+      public Map<String, String[]> getParameterMap() {
+        parse();
+        return super.getParameterMap();
+      }
+
+      @Override
+      public Enumeration<String> getParameterNames() {
+        parse();
+        return super.getParameterNames();
+      }
+    };
+  }
+
+  // 스트리밍 본문의 파일을 저장하고, get()으로 저장된 첨부파일을 돌려주는 가짜 서비스
+  private static BoardService service(List<byte[]> stored) {
+    return (BoardService) Proxy.newProxyInstance(BoardService.class.getClassLoader(),
+            new Class<?>[]{BoardService.class}, (proxy, method, args) -> {
+              switch (method.getName()) {
+                case "createStreaming":
+                  MultipartStream multipart = (MultipartStream) args[0];
+                  for (MultipartStream.Part part; (part = multipart.next()) != null; ) {
+                    if (part.isFile()) stored.add(part.getBody().readAllBytes());
+                  }
+                  return BoardDTO.builder().no(1L).title("제목").build();
+                case "get":
+                  List<BoardAttachmentVO> attaches = new ArrayList<>();
+                  for (byte[] file : stored) {
+                    attaches.add(BoardAttachmentVO.builder().bno(1L).filename("a.bin").size((long) file.length).build());
+                  }
+                  return BoardDTO.builder().no(1L).title("제목").attaches(attaches).build();
+                default:
+                  throw new UnsupportedOperationException(method.getName());
+              }
+            });
+  }
+
+  @Test
+  @DisplayName("refresh=true로 스트리밍 업로드해도 본문이 먼저 파싱되지 않아 첨부파일이 저장된다.")
+  void createStreamingWithRefresh() throws Exception {
+    byte[] file = new byte[100_000];
+    for (int i = 0; i < file.length; i++) {
+      file[i] = (byte) i;
+    }
+    List<byte[]> stored = new ArrayList<>();
+    MockMvc mvc = MockMvcBuilders.standaloneSetup(new BoardController(service(stored))).build();
+
+    String response = mvc.perform(post("/api/board/stream?refresh=true")
+                    .contentType(MediaType.MULTIPART_FORM_DATA_VALUE + "; boundary=" + BOUNDARY)
+                    .content(body(file))
+                    .with(parsingContainer()))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+    log.info(response);
+
+    assertEquals(1, stored.size());
+    assertArrayEquals(file, stored.get(0));
+
+    JsonNode attaches = new ObjectMapper().readTree(response).get("attaches");
+    assertEquals(1, attaches.size());
+    assertEquals(file.length, attaches.get(0).get("size").asInt());
+  }
+}
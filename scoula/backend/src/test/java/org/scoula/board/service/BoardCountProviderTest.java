@@ -0,0 +1,57 @@
+package org.scoula.board.service;
+
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.board.mapper.BoardMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Log4j2
+class BoardCountProviderTest {
+
+  // 정확한 건수와 추정치를 돌려주고 COUNT(*) 호출 횟수를 세는 가짜 Mapper
+  private static BoardMapper mapper(AtomicInteger exact, AtomicLong estimated, AtomicInteger countQueries) {
+    return (BoardMapper) Proxy.newProxyInstance(BoardMapper.class.getClassLoader(),
+            new Class<?>[]{BoardMapper.class}, (proxy, method, args) -> {
+              switch (method.getName()) {
+                case "getTotalCount":
+                  countQueries.incrementAndGet();
+                  return exact.get();
+                case "getEstimatedCount":
+                  return estimated.get();
+                default:
+                  throw new UnsupportedOperationException(method.getName());
+              }
+            });
+  }
+
+  @Test
+  @DisplayName("추정 모드에서는 추정치로 건수를 덮어쓰지 않고, 허용 범위를 넘을 때만 COUNT(*)로 보정한다.")
+  void reconcileWithEstimate() {
+    AtomicInteger exact = new AtomicInteger(1000);
+    AtomicLong estimated = new AtomicLong(700);
+    AtomicInteger countQueries = new AtomicInteger();
+    BoardCountProvider provider = new BoardCountProvider(mapper(exact, estimated, countQueries));
+    ReflectionTestUtils.setField(provider, "estimateThreshold", 100L);
+    ReflectionTestUtils.setField(provider, "estimateTolerance", 0.5);
+
+    assertEquals(1000, provider.getTotalCount());   // 최초에는 정확한 건수
+    assertEquals(1, countQueries.get());
+
+    provider.reconcile();   // 추정치 700: 허용 범위 안 → 유지
+    assertEquals(1000, provider.getTotalCount());
+    assertEquals(1, countQueries.get());
+
+    exact.set(200);
+    estimated.set(180);
+    provider.reconcile();   // 추정치 180: 허용 범위 밖 → COUNT(*)
+    assertEquals(200, provider.getTotalCount());
+    assertEquals(2, countQueries.get());
+  }
+}
@@ -0,0 +1,207 @@
+package org.scoula.board.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import lombok.extern.log4j.Log4j2;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.board.domain.BoardAttachmentVO;
+import org.scoula.board.domain.BoardVO;
+import org.scoula.board.dto.BoardDTO;
+import org.scoula.board.mapper.BoardMapper;
+import org.scoula.common.pagination.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Log4j2
+class BoardServiceImplTest {
+
+  // 호출한 메서드 이름을 기록하는 가짜 Mapper (첨부파일 조회/삭제만 응답)
+  private static BoardMapper mapper(BoardAttachmentVO attachment, List<String> calls) {
+    return (BoardMapper) Proxy.newProxyInstance(BoardMapper.class.getClassLoader(),
+            new Class<?>[]{BoardMapper.class}, (proxy, method, args) -> {
+              calls.add(method.getName());
+              switch (method.getName()) {
+                case "getAttachment":
+                  return attachment;
+                case "deleteAttachment":
+                case "releaseBlob":
+                  return 1;
+                case "deleteUnusedBlob":
+                  return 0;   // 다른 참조가 남아 있음 (파일 삭제 없음)
+                default:
+                  throw new UnsupportedOperationException(method.getName());
+              }
+            });
+  }
+
+  // DB 없이 트랜잭션 동기화(커밋/롤백 콜백)만 동작하는 트랜잭션 관리자
+  private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+    @Override
+    protected Object doGetTransaction() {
+      return new Object();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+    }
+  }
+
+  private static BoardServiceImpl service(BoardMapper mapper, BoardDetailCache cache) {
+    return new BoardServiceImpl(mapper, null, cache, null, new BoardBlobStore(mapper),
+            null, null, null, null, new TransactionTemplate(new NoOpTransactionManager()), null, null);
+  }
+
+  @Test
+  @DisplayName("해시 없이 저장된(기존 방식) 첨부파일을 삭제하면 blob 참조를 건드리지 않고 게시글 캐시를 비운다.")
+  void deleteAttachmentWithoutBlob() {
+    BoardAttachmentVO attachment = BoardAttachmentVO.builder()
+            .no(10L).bno(1L).filename("a.txt").path("c:/upload/board/a.txt").build();
+    List<String> calls = new ArrayList<>();
+    BoardDetailCache cache = new BoardDetailCache(10, 0);
+    cache.put(1L, new BoardDTO());
+
+    assertTrue(service(mapper(attachment, calls), cache).deleteAttachment(10L));
+
+    log.info(calls);
+    assertEquals(List.of("getAttachment", "deleteAttachment"), calls);
+    assertNull(cache.get(1L));
+  }
+
+  @Test
+  @DisplayName("해시로 저장된 첨부파일을 삭제하면 blob 참조를 해제한다.")
+  void deleteAttachmentWithBlob() {
+    BoardAttachmentVO attachment = BoardAttachmentVO.builder()
+            .no(11L).bno(1L).filename("b.txt").blobHash("ab".repeat(32)).build();
+    List<String> calls = new ArrayList<>();
+
+    assertTrue(service(mapper(attachment, calls), new BoardDetailCache(10, 0)).deleteAttachment(11L));
+
+    assertEquals(List.of("getAttachment", "deleteAttachment", "releaseBlob", "deleteUnusedBlob"), calls);
+  }
+
+  @Test
+  @DisplayName("게시글을 삭제하면 캐시의 첨부파일이 아닌 DB에서 잠금 읽기로 조회한 blob만 해제한다.")
+  void deleteReleasesCurrentBlobs() {
+    String cached = "aa".repeat(32);
+    String current = "bb".repeat(32);
+    List<String> calls = new ArrayList<>();
+    BoardMapper mapper = (BoardMapper) Proxy.newProxyInstance(BoardMapper.class.getClassLoader(),
+            new Class<?>[]{BoardMapper.class}, (proxy, method, args) -> {
+              calls.add(method.getName() + (method.getName().equals("releaseBlob") ? ":" + args[0] : ""));
+              switch (method.getName()) {
+                case "getAttachmentBlobHashesForUpdate":
+                  return List.of(current);
+                case "delete":
+                case "releaseBlob":
+                  return 1;
+                case "deleteUnusedBlob":
+                  return 0;
+                default:
+                  throw new UnsupportedOperationException(method.getName());
+              }
+            });
+    // 캐시에는 이미 삭제된 첨부파일이 남아 있음
+    BoardDetailCache cache = new BoardDetailCache(10, 0);
+    cache.put(1L, BoardDTO.builder().no(1L).attaches(List.of(BoardAttachmentVO.builder()
+            .no(10L).bno(1L).filename("old.txt").blobHash(cached).build())).build());
+    BoardServiceImpl service = new BoardServiceImpl(mapper, new BoardCountProvider(mapper), cache,
+            new BoardSearchIndex(mapper, null), new BoardBlobStore(mapper), null,
+            new BoardViewCounter(mapper, cache), null, null, new TransactionTemplate(new NoOpTransactionManager()), null, null);
+
+    service.delete(1L);
+
+    assertEquals(List.of("getAttachmentBlobHashesForUpdate", "delete", "releaseBlob:" + current, "deleteUnusedBlob"), calls);
+    assertNull(cache.get(1L));
+  }
+
+  @Test
+  @DisplayName("내보내기는 공유 ObjectMapper로 기록하고, DB 조회수에 아직 기록되지 않은 조회수를 더한다.")
+  void exportIncludesViewCounts() throws Exception {
+    BoardVO row = new BoardVO();
+    row.setNo(1L);
+    row.setTitle("제목");
+    row.setViewCount(5);
+    @SuppressWarnings("unchecked")
+    Cursor<BoardVO> cursor = (Cursor<BoardVO>) Proxy.newProxyInstance(Cursor.class.getClassLoader(),
+            new Class<?>[]{Cursor.class}, (proxy, method, args) -> switch (method.getName()) {
+              case "iterator" -> List.of(row).iterator();
+              case "close" -> null;
+              default -> throw new UnsupportedOperationException(method.getName());
+            });
+    BoardMapper mapper = (BoardMapper) Proxy.newProxyInstance(BoardMapper.class.getClassLoader(),
+            new Class<?>[]{BoardMapper.class}, (proxy, method, args) -> {
+              if (method.getName().equals("getCursor")) return cursor;
+              throw new UnsupportedOperationException(method.getName());
+            });
+    BoardDetailCache cache = new BoardDetailCache(10, 0);
+    BoardViewCounter viewCounter = new BoardViewCounter(mapper, cache);
+    viewCounter.increment(1L);
+    viewCounter.increment(1L);
+    TransactionTemplate template = new TransactionTemplate(new NoOpTransactionManager());
+    // 주입한 ObjectMapper의 설정이 적용되는지 확인하기 위해 snake_case 사용
+    ObjectMapper objectMapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+    BoardServiceImpl service = new BoardServiceImpl(mapper, null, cache, null, null, null,
+            viewCounter, null, null, template, template, objectMapper);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    assertEquals(1, service.export(out));
+
+    String line = out.toString(StandardCharsets.UTF_8);
+    log.info(line);
+    assertTrue(line.endsWith("\n"));
+    assertEquals(7, objectMapper.readTree(line).get("view_count").asLong());
+  }
+
+  @Test
+  @DisplayName("썸네일이 없으면 원본 경로를 반환하고 생성을 한 번만 다시 예약한다.")
+  void regenerateMissingThumbnail() {
+    BoardAttachmentVO attachment = BoardAttachmentVO.builder()
+            .no(12L).bno(1L).filename("c.png").path("c:/upload/board/c.png").contentType("image/png").build();
+    BoardMapper mapper = (BoardMapper) Proxy.newProxyInstance(BoardMapper.class.getClassLoader(),
+            new Class<?>[]{BoardMapper.class}, (proxy, method, args) -> switch (method.getName()) {
+              case "getAttachment" -> attachment;
+              case "getThumbnailPath" -> null;   // 풀이 가득 차서 생성되지 않음
+              default -> throw new UnsupportedOperationException(method.getName());
+            });
+    List<Runnable> tasks = new ArrayList<>();
+    BoardThumbnailGenerator thumbnails = new BoardThumbnailGenerator(mapper, tasks::add);
+    ReflectionTestUtils.setField(thumbnails, "sizes", new int[]{160, 480});
+    BoardServiceImpl service = new BoardServiceImpl(mapper, null, null, null, null, thumbnails,
+            null, null, null, null, null, null);
+
+    assertEquals(attachment.getPath(), service.getThumbnailPath(12L, 160));
+    assertEquals(attachment.getPath(), service.getThumbnailPath(12L, 480));
+    assertEquals(1, tasks.size());   // 생성 중에는 다시 예약하지 않음
+  }
+
+  @Test
+  @DisplayName("잘못된 커서는 Mapper를 호출하기 전에 IllegalArgumentException(400)이 발생한다.")
+  void invalidCursor() {
+    List<String> calls = new ArrayList<>();
+    BoardServiceImpl service = service(mapper(null, calls), new BoardDetailCache(10, 0));
+
+    assertThrows(IllegalArgumentException.class, () -> service.getPage(PageRequest.ofCursor("not-a-cursor", 10)));
+    assertTrue(calls.isEmpty());
+  }
+}
@@ -0,0 +1,126 @@
+package org.scoula.common.cache;
+
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Log4j2
+class DiskLruCacheTest {
+
+  // size 바이트짜리 파일을 만드는 loader
+  private static DiskLruCache.Loader bytes(int size) {
+    return dest -> {
+      Files.write(dest.toPath(), new byte[size]);
+      return true;
+    };
+  }
+
+  @Test
+  @DisplayName("전체 크기를 넘으면 가장 오래 사용되지 않은 파일이 삭제된다.")
+  void evictLeastRecentlyUsed(@TempDir Path dir) throws Exception {
+    DiskLruCache cache = new DiskLruCache(dir.toFile(), 250);
+    cache.get("a", bytes(100));
+    cache.get("b", bytes(100));
+    cache.get("a", bytes(100));   // a를 최근 사용으로 갱신
+    cache.get("c", bytes(100));   // b가 삭제되어야 함
+
+    assertTrue(new File(dir.toFile(), "a").isFile());
+    assertFalse(new File(dir.toFile(), "b").exists());
+    assertTrue(new File(dir.toFile(), "c").isFile());
+    assertEquals(200, cache.getTotalBytes());
+    assertEquals(1, cache.getStats().getEvictions());
+
+    // 다시 열면 기존 파일을 등록하여 적중
+    DiskLruCache reopened = new DiskLruCache(dir.toFile(), 250);
+    reopened.get("a", dest -> fail("이미 있는 파일을 다시 만들면 안 됨"));
+    assertEquals(1, reopened.getStats().getHits());
+  }
+
+  @Test
+  @DisplayName("open()으로 사용 중인 파일은 상한을 넘어도 삭제하지 않고, close() 후에 삭제한다.")
+  void keepOpenedFiles(@TempDir Path dir) throws Exception {
+    DiskLruCache cache = new DiskLruCache(dir.toFile(), 150);
+    try (DiskLruCache.Handle a = cache.open("a", bytes(100))) {
+      cache.get("b", bytes(100));   // a가 가장 오래되었지만 사용 중
+
+      assertTrue(a.getFile().isFile());
+      assertEquals(200, cache.getTotalBytes());
+      assertEquals(0, cache.getStats().getEvictions());
+    }
+
+    assertFalse(new File(dir.toFile(), "a").exists());
+    assertTrue(new File(dir.toFile(), "b").isFile());
+    assertEquals(100, cache.getTotalBytes());
+  }
+
+  @Test
+  @DisplayName("삭제에 실패한 파일은 전체 크기에 계속 포함하고, 다음 삭제 때 다시 시도한다.")
+  void retryFailedDeletes(@TempDir Path dir) throws Exception {
+    DiskLruCache cache = new DiskLruCache(dir.toFile(), 150);
+    cache.get("a", bytes(100));
+
+    // 삭제할 수 없는 상태로 만듦 (비어 있지 않은 디렉토리)
+    Path a = dir.resolve("a");
+    Files.delete(a);
+    Files.createDirectory(a);
+    Files.write(a.resolve("busy"), new byte[1]);
+
+    cache.get("b", bytes(100));
+    assertEquals(1, cache.getStats().getEvictions());
+    assertEquals(200, cache.getTotalBytes());   // 삭제하지 못한 a 포함
+
+    Files.delete(a.resolve("busy"));
+    cache.get("c", bytes(10));   // a 삭제 재시도
+    assertFalse(Files.exists(a));
+    assertEquals(110, cache.getTotalBytes());
+  }
+
+  @Test
+  @DisplayName("같은 키를 동시에 처음 요청하면 한 번만 만든다.")
+  void coalesceConcurrentLoads(@TempDir Path dir) throws Exception {
+    DiskLruCache cache = new DiskLruCache(dir.toFile(), 1000);
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+
+    ExecutorService pool = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<File>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        results.add(pool.submit(() -> cache.get("v", dest -> {
+          loads.incrementAndGet();
+          try {
+            release.await(5, TimeUnit.SECONDS);   // 다른 요청이 모두 도착할 때까지 생성 지연
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return bytes(10).load(dest);
+        })));
+      }
+      Thread.sleep(200);
+      release.countDown();
+
+      for (Future<File> result : results) {
+        assertEquals(new File(dir.toFile(), "v"), result.get(5, TimeUnit.SECONDS));
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+    log.info(cache.getStats());
+    assertEquals(1, loads.get());
+  }
+}
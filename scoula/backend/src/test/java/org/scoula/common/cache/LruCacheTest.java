@@ -0,0 +1,112 @@
+package org.scoula.common.cache;
+
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Log4j2
+class LruCacheTest {
+
+  @Test
+  @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목이 제거된다.")
+  void evictLeastRecentlyUsed() {
+    LruCache<Long, String> cache = new LruCache<>(2, 0);
+    cache.put(1L, "one");
+    cache.put(2L, "two");
+    cache.get(1L);            // 1을 최근 사용으로 갱신
+    cache.put(3L, "three");   // 2가 제거되어야 함
+
+    assertEquals("one", cache.get(1L));
+    assertNull(cache.get(2L));
+    assertEquals("three", cache.get(3L));
+    assertEquals(1, cache.getStats().getEvictions());
+  }
+
+  @Test
+  @DisplayName("TTL이 지난 항목은 미스로 처리된다.")
+  void expire() throws InterruptedException {
+    LruCache<Long, String> cache = new LruCache<>(10, 50);
+    cache.put(1L, "one");
+    assertEquals("one", cache.get(1L));
+
+    Thread.sleep(100);
+
+    assertNull(cache.get(1L));
+    CacheStats stats = cache.getStats();
+    log.info("통계: {}", stats);
+    assertEquals(1, stats.getHits());
+    assertEquals(1, stats.getMisses());
+  }
+
+  @Test
+  @DisplayName("read-through 조회는 미스일 때만 loader를 호출한다.")
+  void readThrough() {
+    LruCache<Long, String> cache = new LruCache<>(10, 0);
+    AtomicInteger loads = new AtomicInteger();
+
+    cache.get(1L, key -> "v" + loads.incrementAndGet());
+    cache.get(1L, key -> "v" + loads.incrementAndGet());
+    assertEquals(1, loads.get());
+
+    cache.invalidate(1L);
+    assertEquals("v2", cache.get(1L, key -> "v" + loads.incrementAndGet()));
+  }
+
+  @Test
+  @DisplayName("로딩 중 무효화되면 로딩한 값을 캐시하지 않는다.")
+  void invalidateDuringLoad() {
+    LruCache<Long, String> cache = new LruCache<>(10, 0);
+
+    String value = cache.get(1L, key -> {
+      cache.invalidate(key);  // 로딩 도중 다른 요청이 수정/무효화
+      return "stale";
+    });
+
+    assertEquals("stale", value);
+    assertNull(cache.get(1L));
+  }
+
+  @Test
+  @DisplayName("update는 항목을 제거하지 않고 값을 바꾸며, 로딩 중이던 값은 저장하지 않는다.")
+  void update() {
+    LruCache<Long, Long> cache = new LruCache<>(10, 0);
+    cache.put(1L, 10L);
+
+    assertTrue(cache.update(1L, count -> count + 5));
+    assertFalse(cache.update(2L, count -> count + 5));   // 없는 항목은 그대로 없음
+    assertEquals(15L, cache.get(1L));
+    assertEquals(0, cache.getStats().getEvictions());
+
+    Long loaded = cache.get(2L, key -> {
+      cache.update(1L, count -> count + 1);   // 로딩 도중 기록 (읽은 값이 오래되었을 수 있음)
+      return 100L;
+    });
+    assertEquals(100L, loaded);
+    assertNull(cache.get(2L));
+    assertEquals(16L, cache.get(1L));
+  }
+
+  @Test
+  @DisplayName("여러 키 조회는 캐시에 없는 키만 한 번에 loader로 읽는다.")
+  void getAll() {
+    LruCache<Long, String> cache = new LruCache<>(10, 0);
+    cache.put(1L, "one");
+    List<List<Long>> loads = new ArrayList<>();
+
+    Map<Long, String> values = cache.getAll(List.of(1L, 2L, 3L, 2L), keys -> {
+      loads.add(keys);
+      return Map.of(2L, "two");   // 3은 없음
+    });
+
+    assertEquals(List.of(List.of(2L, 3L)), loads);
+    assertEquals(Map.of(1L, "one", 2L, "two"), values);
+    assertEquals("two", cache.get(2L));   // 읽어온 값은 캐시에 저장
+  }
+}
@@ -0,0 +1,99 @@
+package org.scoula.common.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Log4j2
+class ReplicaRoutingDataSourceTest {
+
+  private HikariDataSource primary;
+  private HikariDataSource replica;
+  private JdbcTemplate jdbc;
+  private TransactionTemplate writeTemplate;
+  private TransactionTemplate readOnlyTemplate;
+
+  // 두 개의 내장 DB에 각각 자신의 이름을 저장해 두고 어느 쪽으로 연결됐는지 확인
+  private ReplicaRoutingDataSource setUp(String lagQuery) {
+    primary = embedded("primary");
+    replica = embedded("replica");
+
+    ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, lagQuery, 5);
+    routing.afterPropertiesSet();
+
+    LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+    DataSourceTransactionManager manager = new DataSourceTransactionManager(dataSource);
+    jdbc = new JdbcTemplate(dataSource);
+    writeTemplate = new TransactionTemplate(manager);
+    readOnlyTemplate = new TransactionTemplate(manager);
+    readOnlyTemplate.setReadOnly(true);
+    return routing;
+  }
+
+  private static HikariDataSource embedded(String name) {
+    HikariConfig config = new HikariConfig();
+    config.setPoolName(name);
+    config.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+    config.setMaximumPoolSize(2);
+    HikariDataSource dataSource = new HikariDataSource(config);
+    JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+    jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+    jdbc.update("INSERT INTO node VALUES (?)", name);
+    return dataSource;
+  }
+
+  private String node() {
+    return jdbc.queryForObject("SELECT name FROM node", String.class);
+  }
+
+  @AfterEach
+  void tearDown() {
+    primary.close();
+    replica.close();
+  }
+
+  @Test
+  @DisplayName("읽기 전용 트랜잭션만 복제본으로 보낸다.")
+  void route() {
+    ReplicaRoutingDataSource routing = setUp("SELECT 0");
+
+    assertEquals("replica", readOnlyTemplate.execute(status -> node()));
+    assertEquals("primary", writeTemplate.execute(status -> node()));
+    assertEquals("primary", node());   // 트랜잭션 밖
+    assertEquals(0, routing.getFallbackCount());
+  }
+
+  @Test
+  @DisplayName("복제 지연이 허용치를 넘으면 원본으로 대체한다.")
+  void lagFallback() {
+    ReplicaRoutingDataSource routing = setUp("SELECT 30");
+
+    assertFalse(routing.isReplicaUsable());
+    assertEquals("primary", readOnlyTemplate.execute(status -> node()));
+    assertEquals(1, routing.getFallbackCount());
+  }
+
+  @Test
+  @DisplayName("복제 상태 조회가 실패하면 원본으로 대체하고, 회복되면 다시 복제본을 사용한다.")
+  void unavailable() {
+    ReplicaRoutingDataSource routing = setUp("SELECT lag FROM replica_status");
+    assertEquals("primary", readOnlyTemplate.execute(status -> node()));
+
+    new JdbcTemplate(replica).execute("CREATE TABLE replica_status AS SELECT 1 AS lag");
+    routing.checkReplica();
+    assertEquals("replica", readOnlyTemplate.execute(status -> node()));
+
+    routing.getPoolMetrics().forEach(log::info);
+  }
+}
@@ -0,0 +1,36 @@
+package org.scoula.common.pagination;
+
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Log4j2
+class PageCursorTest {
+
+  @Test
+  @DisplayName("인코딩한 커서는 원래 PK로 디코딩된다.")
+  void encodeDecode() {
+    String cursor = PageCursor.encode(12345L);
+    log.info("커서: {}", cursor);
+
+    assertEquals(12345L, PageCursor.decode(cursor));
+  }
+
+  @Test
+  @DisplayName("빈 커서는 첫 페이지(Long.MAX_VALUE)로 해석된다.")
+  void emptyCursor() {
+    assertEquals(Long.MAX_VALUE, PageCursor.decode(""));
+    assertEquals(Long.MAX_VALUE, PageCursor.decode(PageRequest.ofCursor("", 10).getAfter()));
+    assertTrue(PageRequest.ofCursor("", 10).isCursorMode());
+    assertFalse(PageRequest.of(1, 10).isCursorMode());
+  }
+
+  @Test
+  @DisplayName("잘못된 커서는 IllegalArgumentException이 발생한다.")
+  void invalidCursor() {
+    assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("not-a-cursor"));
+    assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("%%%"));
+  }
+}
@@ -0,0 +1,64 @@
+package org.scoula.common.ranking;
+
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Log4j2
+class HourlyCounterTest {
+
+  private static final long HOUR = 60 * 60 * 1000L;
+
+  private final AtomicLong now = new AtomicLong(1000 * HOUR);
+  private final HourlyCounter counter = new HourlyCounter(24, now::get);
+
+  private void record(long id, int times) {
+    for (int i = 0; i < times; i++) {
+      counter.record(id);
+    }
+  }
+
+  private static List<Long> ids(List<HourlyCounter.Entry> entries) {
+    return entries.stream().map(HourlyCounter.Entry::getId).toList();
+  }
+
+  @Test
+  @DisplayName("기간 내 횟수가 많은 순으로 상위 K개를 반환한다.")
+  void top() {
+    record(1, 5);
+    record(2, 1);
+    now.addAndGet(HOUR);
+    record(2, 3);
+    record(3, 4);
+    record(4, 4);
+
+    assertEquals(List.of(4L, 3L), ids(counter.top(1, 2)));           // 현재 시간만 (같으면 큰 id 우선)
+    assertEquals(List.of(1L, 4L, 3L), ids(counter.top(2, 3)));       // 두 시간 합산
+    assertEquals(4, counter.top(2, 3).get(1).getCount());
+    assertThrows(IllegalArgumentException.class, () -> counter.top(25, 3));
+  }
+
+  @Test
+  @DisplayName("보관 시간이 지난 버킷은 집계와 복원에서 제외한다.")
+  void expireAndRestore() {
+    record(1, 2);
+    var snapshot = counter.snapshot();
+    now.addAndGet(10 * HOUR);
+    record(2, 1);
+
+    HourlyCounter restored = new HourlyCounter(24, now::get);
+    restored.restore(counter.snapshot());
+    assertEquals(List.of(1L, 2L), ids(restored.top(24, 10)));
+
+    now.addAndGet(20 * HOUR);
+    counter.expire();
+    restored.restore(snapshot);   // 이미 보관 시간이 지남
+    assertEquals(List.of(2L), ids(counter.top(24, 10)));
+    assertEquals(1, counter.snapshot().size());
+  }
+}
@@ -0,0 +1,64 @@
+package org.scoula.common.search;
+
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Log4j2
+class InvertedIndexTest {
+
+  @Test
+  @DisplayName("한글은 2글자, 영문은 단어 단위로 분리된다.")
+  void tokenize() {
+    List<String> tokens = Tokenizer.tokenize("서울여행 Spring-MVC 가");
+    log.info("토큰: {}", tokens);
+
+    assertEquals(List.of("서울", "울여", "여행", "spring", "mvc", "가"), tokens);
+  }
+
+  @Test
+  @DisplayName("띄어쓰기와 조사가 달라도 검색된다.")
+  void searchKorean() {
+    InvertedIndex index = new InvertedIndex();
+    index.put(1L, InvertedIndex.countTerms(new HashMap<>(), "강릉 바다 여행을 다녀왔습니다", 1));
+    index.put(2L, InvertedIndex.countTerms(new HashMap<>(), "서울 맛집 추천", 1));
+
+    List<InvertedIndex.Hit> hits = index.search("바다여행");
+    assertEquals(1, hits.size());
+    assertEquals(1L, hits.get(0).getId());
+  }
+
+  @Test
+  @DisplayName("제목 가중치가 높은 문서가 먼저 나온다.")
+  void ranking() {
+    InvertedIndex index = new InvertedIndex();
+    index.put(1L, InvertedIndex.countTerms(
+            InvertedIndex.countTerms(new HashMap<>(), "공지", 3), "spring 설정 방법", 1));
+    index.put(2L, InvertedIndex.countTerms(
+            InvertedIndex.countTerms(new HashMap<>(), "Spring 질문", 3), "설정이 안 됩니다", 1));
+
+    List<InvertedIndex.Hit> hits = index.search("spring");
+    log.info("결과: {}", hits);
+    assertEquals(2L, hits.get(0).getId());
+  }
+
+  @Test
+  @DisplayName("교체/삭제된 문서는 이전 내용으로 검색되지 않는다.")
+  void updateAndRemove() {
+    InvertedIndex index = new InvertedIndex();
+    index.put(1L, InvertedIndex.countTerms(new HashMap<>(), "old title", 1));
+    index.put(1L, InvertedIndex.countTerms(new HashMap<>(), "new title", 1));
+
+    assertTrue(index.search("old").isEmpty());
+    assertEquals(1, index.search("new").size());
+
+    index.remove(1L);
+    assertTrue(index.search("title").isEmpty());
+    assertEquals(0, index.size());
+  }
+}
@@ -0,0 +1,71 @@
+package org.scoula.common.util;
+
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Log4j2
+class CsvReaderTest {
+
+  private static List<List<String>> readAll(String text) throws IOException {
+    List<List<String>> records = new ArrayList<>();
+    try (CsvReader csv = new CsvReader(new StringReader(text))) {
+      for (List<String> record; (record = csv.next()) != null; ) {
+        records.add(record);
+      }
+    }
+    return records;
+  }
+
+  @Test
+  @DisplayName("따옴표 필드 안의 쉼표, 줄바꿈, 두 번 쓴 따옴표를 처리한다.")
+  void quotedFields() throws IOException {
+    List<List<String>> records = readAll("no,title,description\r\n"
+            + "1,\"강릉, 경포대\",\"첫 줄\n둘째 줄 \"\"인용\"\"\",\r\n"
+            + "2,,\"\"\n");
+
+    assertEquals(List.of(
+            List.of("no", "title", "description"),
+            List.of("1", "강릉, 경포대", "첫 줄\n둘째 줄 \"인용\"", ""),
+            List.of("2", "", "")), records);
+  }
+
+  @Test
+  @DisplayName("BOM과 빈 줄은 건너뛰고, 마지막 줄바꿈이 없어도 마지막 레코드를 읽는다.")
+  void bomAndBlankLines() throws IOException {
+    assertEquals(List.of(List.of("a", "b"), List.of("c", "d")), readAll("\uFEFFa,b\n\n\nc,d"));
+  }
+
+  @Test
+  @DisplayName("닫히지 않은 따옴표는 시작 줄 번호와 함께 오류가 발생한다.")
+  void unterminatedQuote() {
+    IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> readAll("a,b\n1,\"열린 따옴표\n2,x\n"));
+    log.info(e.getMessage());
+    assertTrue(e.getMessage().contains("2번째 줄"));
+  }
+
+  @Test
+  @DisplayName("여행지 CSV 전체를 읽는다.")
+  void travelCsv() throws IOException {
+    try (CsvReader csv = new CsvReader(new InputStreamReader(
+            getClass().getResourceAsStream("/travel.csv"), StandardCharsets.UTF_8))) {
+      List<String> header = csv.next();
+      assertEquals(List.of("no", "district", "title", "description", "address", "phone"), header);
+      for (List<String> record; (record = csv.next()) != null; ) {
+        assertEquals(header.size(), record.size(), "필드 수 (" + csv.getLineNumber() + "번째 줄)");
+      }
+      log.info("레코드 수: {}", csv.getRecordCount());
+      assertEquals(113, csv.getRecordCount());
+    }
+  }
+}
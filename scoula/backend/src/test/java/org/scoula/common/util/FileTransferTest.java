@@ -0,0 +1,44 @@
+package org.scoula.common.util;
+
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Log4j2
+class FileTransferTest {
+
+  @Test
+  @DisplayName("단일/다중/접미 구간을 파싱한다.")
+  void parseRanges() {
+    List<FileTransfer.Range> ranges = FileTransfer.parseRanges("bytes=0-99, 200-, -50", 1000);
+    assertEquals(3, ranges.size());
+    assertEquals(0, ranges.get(0).getStart());
+    assertEquals(99, ranges.get(0).getEnd());
+    assertEquals(200, ranges.get(1).getStart());
+    assertEquals(999, ranges.get(1).getEnd());
+    assertEquals(950, ranges.get(2).getStart());
+    assertEquals(50, ranges.get(2).length());
+  }
+
+  @Test
+  @DisplayName("2GB를 넘는 파일의 구간도 처리한다.")
+  void largeFile() {
+    long length = 5L * 1024 * 1024 * 1024;
+    List<FileTransfer.Range> ranges = FileTransfer.parseRanges("bytes=4294967296-", length);
+    assertEquals(length - 4294967296L, ranges.get(0).length());
+  }
+
+  @Test
+  @DisplayName("범위 밖 구간은 제외하고, 형식 오류는 전체 전송으로 처리한다.")
+  void invalid() {
+    assertTrue(FileTransfer.parseRanges("bytes=1000-", 1000).isEmpty());   // 416
+    assertNull(FileTransfer.parseRanges("bytes=500-100", 1000));
+    assertNull(FileTransfer.parseRanges("bytes=abc", 1000));
+    assertNull(FileTransfer.parseRanges("items=0-1", 1000));
+    assertNull(FileTransfer.parseRanges(null, 1000));
+  }
+}
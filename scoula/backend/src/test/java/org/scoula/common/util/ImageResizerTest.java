@@ -0,0 +1,44 @@
+package org.scoula.common.util;
+
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Log4j2
+class ImageResizerTest {
+
+  @TempDir
+  File dir;
+
+  @Test
+  @DisplayName("비율을 유지하여 최대 크기 안으로 축소한다.")
+  void resize() throws IOException {
+    File src = new File(dir, "src.png");
+    ImageIO.write(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_ARGB), "png", src);
+
+    File dest = new File(dir, "thumb/src-160.jpg");
+    assertTrue(ImageResizer.resize(src, dest, 160, "jpg"));
+
+    BufferedImage thumb = ImageIO.read(dest);
+    assertEquals(160, thumb.getWidth());
+    assertEquals(80, thumb.getHeight());
+  }
+
+  @Test
+  @DisplayName("이미지가 아니면 false를 반환한다.")
+  void notImage() throws IOException {
+    File src = new File(dir, "a.txt");
+    Files.writeString(src.toPath(), "hello");
+
+    assertFalse(ImageResizer.resize(src, new File(dir, "a.jpg"), 160, "jpg"));
+  }
+}
@@ -0,0 +1,62 @@
+package org.scoula.common.util;
+
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Log4j2
+class MultipartStreamTest {
+
+  private static final String BOUNDARY = "----boundary";
+
+  private static byte[] body(byte[] file) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(("--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"title\"\r\n\r\n"
+            + "제목\r\n"
+            + "--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"files\"; filename=\"a.bin\"\r\n"
+            + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+    out.write(file);
+    out.write(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+    return out.toByteArray();
+  }
+
+  @Test
+  @DisplayName("작은 버퍼로도 필드와 파일 파트를 순서대로 읽는다.")
+  void parse() throws IOException {
+    byte[] file = new byte[200_000];
+    for (int i = 0; i < file.length; i++) {
+      file[i] = (byte) (i % 13 == 0 ? '\r' : i);   // 경계와 비슷한 바이트 포함
+    }
+
+    MultipartStream multipart = new MultipartStream(new ByteArrayInputStream(body(file)), BOUNDARY, 1024);
+
+    MultipartStream.Part title = multipart.next();
+    assertEquals("title", title.getName());
+    assertFalse(title.isFile());
+    assertEquals("제목", title.readString(1024));
+
+    MultipartStream.Part files = multipart.next();
+    assertEquals("a.bin", files.getFilename());
+    assertEquals("application/octet-stream", files.getContentType());
+    assertArrayEquals(file, files.getBody().readAllBytes());
+
+    assertNull(multipart.next());
+  }
+
+  @Test
+  @DisplayName("Content-Type에서 boundary를 추출한다.")
+  void boundaryOf() {
+    assertEquals("abc", MultipartStream.boundaryOf("multipart/form-data; boundary=abc"));
+    assertEquals("a b", MultipartStream.boundaryOf("multipart/form-data; boundary=\"a b\""));
+    assertNull(MultipartStream.boundaryOf("application/json"));
+  }
+}
@@ -0,0 +1,75 @@
+package org.scoula.common.util;
+
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Log4j2
+class OrphanReaperTest {
+
+  @TempDir
+  File dir;
+
+  private File create(String name, long ageMillis) throws IOException {
+    File file = new File(dir, name);
+    assertTrue(file.createNewFile());
+    file.setLastModified(System.currentTimeMillis() - ageMillis);
+    return file;
+  }
+
+  @Test
+  @DisplayName("참조되지 않고 충분히 오래된 파일만 삭제한다.")
+  void reap() throws IOException {
+    create("a.txt", 10_000);
+    File orphan = create("b.txt", 10_000);
+    create("c.txt", 10_000);
+    create("d.txt", 0);          // 최근 파일 (커밋 전 업로드일 수 있음)
+
+    OrphanReaper reaper = new OrphanReaper(false, 5_000, 100, 10, 0);
+    OrphanReaper.Report report = reaper.newReport("test");
+    List<File> orphans = new ArrayList<>();
+    reaper.collect(report, OrphanReaper.sortedFiles(dir, file -> true), File::getName,
+            List.of("a.txt", "c.txt", "c.txt", "z.txt").iterator(), orphans);
+    reaper.delete(report, orphans, File::delete);
+    log.info("결과: {}", reaper.finish(report));
+
+    assertEquals(List.of(orphan), orphans);
+    assertEquals(4, report.getScanned());
+    assertEquals(1, report.getDeleted());
+    assertFalse(orphan.exists());
+    assertEquals(3, dir.list().length);
+  }
+
+  @Test
+  @DisplayName("dry-run이면 삭제하지 않는다.")
+  void dryRun() throws IOException {
+    File orphan = create("b.txt", 10_000);
+
+    OrphanReaper reaper = new OrphanReaper(true, 0, 100, 10, 0);
+    OrphanReaper.Report report = reaper.newReport("test");
+    List<File> orphans = new ArrayList<>();
+    reaper.collect(report, OrphanReaper.sortedFiles(dir, file -> true), File::getName,
+            List.<String>of().iterator(), orphans);
+    reaper.delete(report, orphans, File::delete);
+
+    assertEquals(1, report.getOrphans());
+    assertEquals(0, report.getDeleted());
+    assertTrue(orphan.exists());
+  }
+
+  @Test
+  @DisplayName("보조 문자도 DB binary 정렬과 같은 순서로 비교한다.")
+  void binaryOrder() {
+    // U+FF5E(전각 물결표) < U+1F600(이모지) - UTF-16 비교에서는 반대
+    assertTrue(OrphanReaper.BINARY_ORDER.compare("\uFF5E", "\uD83D\uDE00") < 0);
+    assertTrue("\uFF5E".compareTo("\uD83D\uDE00") > 0);
+  }
+}
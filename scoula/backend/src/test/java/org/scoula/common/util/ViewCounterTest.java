@@ -0,0 +1,84 @@
+package org.scoula.common.util;
+
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Log4j2
+class ViewCounterTest {
+
+  // 기록한 값을 메모리에 모으는 카운터 (failing이면 기록 실패)
+  static class MemoryViewCounter extends ViewCounter {
+    final Map<Long, Long> stored = new HashMap<>();
+    final List<Integer> batchSizes = new ArrayList<>();
+    boolean failing;
+
+    @Override
+    protected void write(Map<Long, Long> counts) {
+      if (failing) throw new IllegalStateException("DB 오류");
+      batchSizes.add(counts.size());
+      counts.forEach((id, count) -> stored.merge(id, count, Long::sum));
+    }
+  }
+
+  @Test
+  @DisplayName("동시에 증가한 조회수를 빠짐없이 한 번에 기록한다.")
+  void flush() throws InterruptedException {
+    MemoryViewCounter counter = new MemoryViewCounter();
+    ExecutorService pool = Executors.newFixedThreadPool(8);
+    for (int i = 0; i < 8; i++) {
+      pool.execute(() -> {
+        for (int j = 0; j < 10000; j++) {
+          counter.increment((long) (j % 2));
+        }
+      });
+    }
+    pool.shutdown();
+    assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+    assertEquals(40000, counter.getPending(0L));
+    assertEquals(2, counter.flush());
+    assertEquals(Map.of(0L, 40000L, 1L, 40000L), counter.stored);
+    assertEquals(0, counter.getPending(0L));
+    assertEquals(0, counter.flush());   // 기록할 값 없음
+  }
+
+  @Test
+  @DisplayName("기록에 실패하면 값을 되돌려 다음에 다시 기록한다.")
+  void retry() {
+    MemoryViewCounter counter = new MemoryViewCounter();
+    counter.increment(1L);
+    counter.increment(1L);
+
+    counter.failing = true;
+    assertEquals(0, counter.flush());
+    counter.increment(1L);
+    assertEquals(3, counter.getPending(1L));
+
+    counter.failing = false;
+    counter.destroy();   // 종료 시 남은 값 기록
+    assertEquals(Map.of(1L, 3L), counter.stored);
+  }
+
+  @Test
+  @DisplayName("기록할 id가 많으면 1000건씩 나누어 기록한다.")
+  void batch() {
+    MemoryViewCounter counter = new MemoryViewCounter();
+    for (long id = 0; id < 2500; id++) {
+      counter.increment(id);
+    }
+
+    assertEquals(2500, counter.flush());
+    assertEquals(List.of(1000, 1000, 500), counter.batchSizes);
+  }
+}
@@ -0,0 +1,54 @@
+package org.scoula.member.controller;
+
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.member.service.MemberService;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Log4j2
+class MemberControllerTest {
+
+  private static final String BOUNDARY = "----boundary";
+
+  // 호출한 메서드 이름만 기록하는 가짜 서비스
+  private static MemberService service(List<String> calls) {
+    return (MemberService) Proxy.newProxyInstance(MemberService.class.getClassLoader(),
+            new Class<?>[]{MemberService.class}, (proxy, method, args) -> {
+              calls.add(method.getName());
+              return null;
+            });
+  }
+
+  @Test
+  @DisplayName("다른 회원의 아바타를 변경하려 하면 저장하지 않고 403을 응답한다.")
+  void changeAvatarOfOtherMember() throws Exception {
+    List<String> calls = new ArrayList<>();
+    MockMvc mvc = MockMvcBuilders.standaloneSetup(new MemberController(service(calls))).build();
+
+    mvc.perform(put("/api/member/victim/avatar")
+                    .contentType(MediaType.MULTIPART_FORM_DATA_VALUE + "; boundary=" + BOUNDARY)
+                    .content("--" + BOUNDARY + "--\r\n")
+                    .principal(new UsernamePasswordAuthenticationToken("attacker", null)))
+            .andExpect(status().isForbidden());
+    assertTrue(calls.isEmpty());
+
+    mvc.perform(put("/api/member/victim/avatar")
+                    .contentType(MediaType.MULTIPART_FORM_DATA_VALUE + "; boundary=" + BOUNDARY)
+                    .content("--" + BOUNDARY + "--\r\n")
+                    .principal(new UsernamePasswordAuthenticationToken("victim", null)))
+            .andExpect(status().isOk());
+    assertEquals(List.of("saveAvatar"), calls);
+  }
+}
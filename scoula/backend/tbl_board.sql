@@ -1,4 +1,17 @@
+DROP TABLE IF EXISTS tbl_board_thumbnail;
 DROP TABLE IF EXISTS tbl_board_attachment;
+DROP TABLE IF EXISTS tbl_blob;
+DROP TABLE IF EXISTS tbl_board_view;
+
+-- 내용 주소(content-addressed) 저장 파일: SHA-256 해시당 파일 하나, 첨부파일 행이 참조
+CREATE TABLE tbl_blob
+(
+    hash CHAR(64) PRIMARY KEY, -- SHA-256 (16진수)
+    path VARCHAR(256) NOT NULL, -- 서버에서의 파일 경로
+    size BIGINT NOT NULL, -- 파일의 크기
+    ref_count INTEGER NOT NULL DEFAULT 0, -- 참조하는 첨부파일 수
+    reg_date DATETIME DEFAULT now()
+);
 
 CREATE TABLE tbl_board_attachment
 (
@@ -7,7 +20,30 @@ CREATE TABLE tbl_board_attachment
     path VARCHAR(256) NOT NULL, -- 서버에서의 파일 경로
     content_type VARCHAR(56), -- content-type
     size INTEGER, -- 파일의 크기
+    blob_hash CHAR(64), -- 내용 주소 저장 시 tbl_blob.hash (기존 방식이면 NULL)
     bno INTEGER NOT NULL, -- 게시글 번호, FK
     reg_date DATETIME DEFAULT now(),
     CONSTRAINT FOREIGN KEY (bno) REFERENCES tbl_board (no) ON DELETE CASCADE
-);
\ No newline at end of file
+);
+
+-- 이미지 첨부파일 썸네일: 첨부파일 + 크기당 하나 (백그라운드에서 생성)
+CREATE TABLE tbl_board_thumbnail
+(
+    ano INTEGER NOT NULL, -- 첨부파일 번호, FK
+    size INTEGER NOT NULL, -- 가로/세로 최대 크기(px)
+    path VARCHAR(256) NOT NULL, -- 서버에서의 파일 경로
+    reg_date DATETIME DEFAULT now(),
+    PRIMARY KEY (ano, size),
+    CONSTRAINT FOREIGN KEY (ano) REFERENCES tbl_board_attachment (no) ON DELETE CASCADE
+);
+
+-- 게시글 조회수: 메모리에서 모은 값을 주기적으로 일괄 upsert (게시글 행을 잠그지 않도록 별도 테이블)
+-- 게시글 삭제 후 남은 행은 조회되지 않으므로 FK 없음 (삭제와 조회수 기록이 겹쳐도 기록이 실패하지 않도록)
+CREATE TABLE tbl_board_view
+(
+    bno INTEGER PRIMARY KEY, -- 게시글 번호
+    view_count BIGINT NOT NULL DEFAULT 0 -- 조회수
+);
+
+-- 기존 DB에 적용할 때
+-- ALTER TABLE tbl_board_attachment ADD COLUMN blob_hash CHAR(64) AFTER size;
\ No newline at end of file
@@ -1,3 +1,4 @@
+DROP TABLE IF EXISTS tbl_travel_view;
 DROP TABLE IF EXISTS tbl_travel_image;
 DROP TABLE IF EXISTS tbl_travel;
 
@@ -9,7 +10,19 @@ CREATE TABLE tbl_travel
     title       VARCHAR(512)       NOT NULL,
     description TEXT,
     address     VARCHAR(512),
-    phone       VARCHAR(256)
+    phone       VARCHAR(256),
+    version     INT                NOT NULL DEFAULT 0 -- 행 버전 (수정 시 version = version + 1, ETag용)
+);
+
+# 기존 DB에 적용할 때
+# ALTER TABLE tbl_travel ADD COLUMN version INT NOT NULL DEFAULT 0;
+
+
+# 여행지 조회수 테이블 (메모리에서 모은 값을 주기적으로 일괄 upsert)
+CREATE TABLE tbl_travel_view
+(
+    travel_no  INT    NOT NULL PRIMARY KEY,
+    view_count BIGINT NOT NULL DEFAULT 0
 );
 
 
@@ -19,10 +32,14 @@ CREATE TABLE tbl_travel_image
     no        INT AUTO_INCREMENT NOT NULL PRIMARY KEY,
     filename  VARCHAR(512)       NOT NULL,
     travel_no INT,
+    UNIQUE KEY uk_travel_image (travel_no, filename), -- 이미지 목록 가져오기(upsert) 시 중복 방지
     CONSTRAINT FOREIGN KEY (travel_no) REFERENCES tbl_travel (no)
         ON DELETE CASCADE
 );
 
+# 기존 DB에 적용할 때
+# ALTER TABLE tbl_travel_image ADD UNIQUE KEY uk_travel_image (travel_no, filename);
+
 -- 001-1.jpg부터 112-5.jpg까지 총 560개 파일명 INSERT
 -- MySQL의 재귀 CTE(Common Table Expression) 사용 (MySQL 8.0 이상만 가능)
 INSERT INTO tbl_travel_image (filename, travel_no)
@@ -37,6 +37,15 @@ export default {
     return data;
   },
 
+  // 여러 게시글 한 번에 조회 (요청 순서대로, 없는 게시글은 found: false)
+  async getBatch(ids) {
+    const { data } = await api.get(`${BASE_URL}/batch`, {
+      params: { ids: ids.join(',') },
+    });
+    console.log('BOARD GET BATCH', data);
+    return data;
+  },
+
   // 게시글 삭제
   async delete(no) {
     const { data } = await api.delete(`${BASE_URL}/${no}`);
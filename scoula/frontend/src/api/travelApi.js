@@ -10,6 +10,13 @@ export default {
     return data;
   },
 
+  // 권역별 여행지 수 조회 (권역 필터용)
+  async getDistricts() {
+    const { data } = await api.get(`${BASE_URL}/districts`);
+    console.log('TRAVEL GET DISTRICTS: ', data);
+    return data;
+  },
+
   // 특정 여행지 상세 정보 조회
   async get(no) {
     const { data } = await api.get(`${BASE_URL}/${no}`);
@@ -0,0 +1,3 @@
+// 여행지 이미지 축소본 URL (서버가 주는 url에는 버전 ?v=가 붙어 있을 수 있음)
+export const resizedUrl = (url, width) =>
+  `${url}${url.includes('?') ? '&' : '?'}w=${width}`;